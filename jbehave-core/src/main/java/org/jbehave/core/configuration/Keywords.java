@@ -5,7 +5,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang.builder.ToStringBuilder;
+import org.apache.commons.lang.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.jbehave.core.steps.StepType;
 
@@ -98,6 +98,8 @@ public class Keywords {
     private final String yes;
     private final String no;
     private final Map<StepType, String> startingWordsByType = new HashMap<StepType, String>();
+    private volatile StartingWordTrie startingWordTrie;
+    private final ThreadLocal<StartingWordMatches> lastMatches = new ThreadLocal<StartingWordMatches>();
 
 
     public static Map<String, String> defaultKeywords() {
@@ -344,13 +346,22 @@ public class Keywords {
     }
 
     private boolean ofStepType(String stepAsString, StepType stepType) {
-        boolean isType = false;
-        for (String word : startingWordsFor(stepType)) {
-            isType = stepStartsWithWord(stepAsString, word);
-            if (isType)
-                break;
+        return matchesOf(stepAsString).wordOfType(stepType) != null;
+    }
+
+    /**
+     * Returns the starting words the step starts with, as found in a single
+     * pass over the starting word trie. The matches of the last step are kept
+     * by each thread, as the same step is usually looked up repeatedly, once
+     * for each step candidate.
+     */
+    private StartingWordMatches matchesOf(String stepAsString) {
+        StartingWordMatches matches = lastMatches.get();
+        if (matches == null || !matches.isOf(stepAsString)) {
+            matches = startingWordTrie().matchesOf(stepAsString);
+            lastMatches.set(matches);
         }
-        return isType;
+        return matches;
     }
 
     public boolean isAndStep(String stepAsString) {
@@ -367,40 +378,63 @@ public class Keywords {
                                                                   // space after
     }
 
-    public String startingWord(String stepAsString, StepType stepType) throws StartingWordNotFound {
-        for (String wordForType : startingWordsFor(stepType)) {
-            if (stepStartsWithWord(stepAsString, wordForType)) {
-                return wordForType;
+    private StartingWordTrie startingWordTrie() {
+        StartingWordTrie trie = startingWordTrie;
+        if (trie == null) {
+            trie = new StartingWordTrie();
+            int typeOrder = 0;
+            for (StepType stepType : startingWordsByType.keySet()) {
+                String[] words = startingWordsFor(stepType);
+                for (int synonym = 0; synonym < words.length; synonym++) {
+                    trie.add(new StartingWord(words[synonym], stepType, typeOrder, synonym));
+                }
+                typeOrder++;
             }
+            startingWordTrie = trie;
         }
-        for (String andWord : startingWordsFor(StepType.AND)) {
-            if (stepStartsWithWord(stepAsString, andWord)) {
-                return andWord;
-            }
+        return trie;
+    }
+
+    /**
+     * Determines if the step starts with a starting word of the given type or,
+     * failing that, with an AND starting word, i.e. if
+     * {@link #startingWord(String, StepType)} would find a starting word.
+     * 
+     * @param stepAsString the step
+     * @param stepType the StepType
+     * @return A boolean flag
+     */
+    public boolean hasStartingWord(String stepAsString, StepType stepType) {
+        StartingWordMatches matches = matchesOf(stepAsString);
+        return matches.wordOfType(stepType) != null || matches.wordOfType(StepType.AND) != null;
+    }
+
+    public String startingWord(String stepAsString, StepType stepType) throws StartingWordNotFound {
+        StartingWordMatches matches = matchesOf(stepAsString);
+        StartingWord word = matches.wordOfType(stepType);
+        if (word == null) {
+            word = matches.wordOfType(StepType.AND);
         }
-        throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
+        if (word == null) {
+            throw new StartingWordNotFound(stepAsString, stepType, startingWordsByType);
+        }
+        return word.word;
     }
 
     public String startingWord(String stepAsString) throws StartingWordNotFound {
-        for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return wordForType;
-                }
-            }
-        }
-        throw new StartingWordNotFound(stepAsString, startingWordsByType);
+        return firstWordOf(stepAsString).word;
     }
 
     public StepType stepTypeFor(String stepAsString) throws StartingWordNotFound {
-        for (StepType stepType : startingWordsByType.keySet()) {
-            for (String wordForType : startingWordsFor(stepType)) {
-                if (stepStartsWithWord(stepAsString, wordForType)) {
-                    return stepType;
-                }
-            }
+        return firstWordOf(stepAsString).stepType;
+    }
+
+    private StartingWord firstWordOf(String stepAsString) {
+        StartingWord word = matchesOf(stepAsString).firstWord();
+        if (word == null) {
+            throw new StartingWordNotFound(stepAsString, startingWordsByType);
         }
-        throw new StartingWordNotFound(stepAsString, startingWordsByType);
+        return word;
     }
 
     public boolean stepStartsWithWord(String step, String word) {
@@ -421,7 +455,119 @@ public class Keywords {
 
     @Override
     public String toString() {
-        return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
+        // the starting word lookups are not part of the keywords
+        return new ReflectionToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE).setExcludeFieldNames(
+                new String[] { "startingWordTrie", "lastMatches" }).toString();
+    }
+
+    private static class StartingWord {
+
+        private final String word;
+        private final StepType stepType;
+        private final int typeOrder;
+        private final int synonym;
+
+        StartingWord(String word, StepType stepType, int typeOrder, int synonym) {
+            this.word = word;
+            this.stepType = stepType;
+            this.typeOrder = typeOrder;
+            this.synonym = synonym;
+        }
+
+        boolean precedes(StartingWord other) {
+            return other == null || typeOrder < other.typeOrder
+                    || (typeOrder == other.typeOrder && synonym < other.synonym);
+        }
+    }
+
+    /**
+     * Trie of the starting words of all step types, synonyms included
+     */
+    private static class StartingWordTrie {
+
+        private final Node root = new Node();
+
+        void add(StartingWord word) {
+            Node node = root;
+            for (int i = 0; i < word.word.length(); i++) {
+                node = node.childAdding(word.word.charAt(i));
+            }
+            node.words.add(word);
+        }
+
+        StartingWordMatches matchesOf(String stepAsString) {
+            List<StartingWord> matched = new ArrayList<StartingWord>(1);
+            Node node = root;
+            for (int i = 0; i < stepAsString.length() && node != null; i++) {
+                char c = stepAsString.charAt(i);
+                // the space after qualifies the starting word as word
+                if (c == ' ') {
+                    matched.addAll(node.words);
+                }
+                node = node.child(c);
+            }
+            return new StartingWordMatches(stepAsString, matched);
+        }
+
+        private static class Node {
+
+            private Map<Character, Node> children;
+            private final List<StartingWord> words = new ArrayList<StartingWord>(1);
+
+            Node child(char c) {
+                return children != null ? children.get(c) : null;
+            }
+
+            Node childAdding(char c) {
+                if (children == null) {
+                    children = new HashMap<Character, Node>();
+                }
+                Node child = children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    children.put(c, child);
+                }
+                return child;
+            }
+        }
+    }
+
+    /**
+     * The starting words a step starts with
+     */
+    private static class StartingWordMatches {
+
+        private final String stepAsString;
+        private final List<StartingWord> words;
+
+        StartingWordMatches(String stepAsString, List<StartingWord> words) {
+            this.stepAsString = stepAsString;
+            this.words = words;
+        }
+
+        boolean isOf(String stepAsString) {
+            return this.stepAsString == stepAsString || this.stepAsString.equals(stepAsString);
+        }
+
+        StartingWord wordOfType(StepType stepType) {
+            StartingWord first = null;
+            for (StartingWord word : words) {
+                if (word.stepType == stepType && word.precedes(first)) {
+                    first = word;
+                }
+            }
+            return first;
+        }
+
+        StartingWord firstWord() {
+            StartingWord first = null;
+            for (StartingWord word : words) {
+                if (word.precedes(first)) {
+                    first = word;
+                }
+            }
+            return first;
+        }
     }
 
     @SuppressWarnings("serial")
@@ -424,6 +424,7 @@ public class Embedder {
     }
 
     private StoryManager createStoryManager() {
+        storyRunner().useEmbedderControls(embedderControls());
         return new StoryManager(configuration(), embedderControls(), embedderMonitor(), executorService(),
                 stepsFactory(), storyRunner());
     }
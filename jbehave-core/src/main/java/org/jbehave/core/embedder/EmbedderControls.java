@@ -17,6 +17,9 @@ public class EmbedderControls {
     private boolean verboseFiltering = false;
     private long storyTimeoutInSecs = 300; // 5 mins is default.
     private int threads = 1;
+    private boolean parallelScenarios = false;
+    private boolean parallelExamples = false;
+    private int scenarioThreads = 1;
 
     public EmbedderControls() {
     }
@@ -49,6 +52,13 @@ public class EmbedderControls {
         return verboseFiltering;
     }
 
+    /**
+     * Returns the default timeout of a story, measured from when the story
+     * starts running. Stories may override it via the "timeout" meta property,
+     * in seconds, a story whose "timeout" is not a number failing to run.
+     * 
+     * @return The timeout in seconds
+     */
     public long storyTimeoutInSecs() {
         return storyTimeoutInSecs;
     }
@@ -57,6 +67,32 @@ public class EmbedderControls {
        return threads;
     }
 
+    /**
+     * Returns whether the scenarios of all stories are run concurrently, using
+     * the {@link #scenarioThreads()}. Stories may also opt in individually via
+     * the "parallelScenarios" meta property.
+     * 
+     * @return A boolean, <code>true</code> if scenarios are run concurrently
+     */
+    public boolean parallelScenarios() {
+        return parallelScenarios;
+    }
+
+    /**
+     * Returns whether the examples of all parametrised scenarios are run
+     * concurrently, using the {@link #scenarioThreads()}. Stories or scenarios
+     * may also opt in individually via the "parallelExamples" meta property.
+     * 
+     * @return A boolean, <code>true</code> if examples are run concurrently
+     */
+    public boolean parallelExamples() {
+        return parallelExamples;
+    }
+
+    public int scenarioThreads() {
+        return scenarioThreads;
+    }
+
     public EmbedderControls doBatch(boolean batch) {
         this.batch = batch;
         return this;
@@ -101,6 +137,21 @@ public class EmbedderControls {
         this.threads = threads;
         return this;
     }
+
+    public EmbedderControls doParallelScenarios(boolean parallelScenarios) {
+        this.parallelScenarios = parallelScenarios;
+        return this;
+    }
+
+    public EmbedderControls doParallelExamples(boolean parallelExamples) {
+        this.parallelExamples = parallelExamples;
+        return this;
+    }
+
+    public EmbedderControls useScenarioThreads(int scenarioThreads) {
+        this.scenarioThreads = scenarioThreads;
+        return this;
+    }
     
     @Override
     public String toString() {
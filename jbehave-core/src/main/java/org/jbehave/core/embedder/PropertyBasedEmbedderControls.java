@@ -15,6 +15,9 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public static final String VERBOSE_FILTERING = "VERBOSE_FILTERING";
     public static final String STORY_TIMEOUT_IN_SECS = "STORY_TIMEOUT_IN_SECS";
     public static final String THREADS = "THREADS";
+    public static final String PARALLEL_SCENARIOS = "PARALLEL_SCENARIOS";
+    public static final String PARALLEL_EXAMPLES = "PARALLEL_EXAMPLES";
+    public static final String SCENARIO_THREADS = "SCENARIO_THREADS";
 
     private ParameterConverters converters = new ParameterConverters();
 
@@ -62,6 +65,21 @@ public class PropertyBasedEmbedderControls extends EmbedderControls {
     public int threads() {
         return propertyAs(THREADS, Integer.class, super.threads()); 
     }
+
+    @Override
+    public boolean parallelScenarios() {
+        return propertyAs(PARALLEL_SCENARIOS, Boolean.class, super.parallelScenarios());
+    }
+
+    @Override
+    public boolean parallelExamples() {
+        return propertyAs(PARALLEL_EXAMPLES, Boolean.class, super.parallelExamples());
+    }
+
+    @Override
+    public int scenarioThreads() {
+        return propertyAs(SCENARIO_THREADS, Integer.class, super.scenarioThreads());
+    }
    
     @SuppressWarnings("unchecked")
     private <T> T propertyAs(String name, Class<T> type, T defaultValue) {
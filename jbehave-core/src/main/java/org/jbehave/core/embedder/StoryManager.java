@@ -4,11 +4,19 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang.StringUtils;
 import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.embedder.StoryRunner.State;
 import org.jbehave.core.failures.BatchFailures;
@@ -25,10 +33,14 @@ import org.jbehave.core.steps.StepCollector.Stage;
  */
 public class StoryManager {
 
+    private static final String TIMEOUT = "timeout";
+
     private final Configuration configuration;
     private final EmbedderControls embedderControls;
     private final EmbedderMonitor embedderMonitor;
     private final ExecutorService executorService;
+    private ScheduledExecutorService watchdog;
+    private final BlockingQueue<Future<ThrowableStory>> completedStories = new LinkedBlockingQueue<Future<ThrowableStory>>();
     private final InjectableStepsFactory stepsFactory;
     private final StoryRunner storyRunner;
     private final Map<String, RunningStory> runningStories = new HashMap<String, RunningStory>();
@@ -95,14 +107,56 @@ public class StoryManager {
         return state;
     }
 
+    /**
+     * Loads and parses the stories concurrently, submitting each story to run
+     * as soon as it is parsed and allowed by the filter. Stories are filtered
+     * and submitted in the order of their paths.
+     * 
+     * @param storyPaths the List of story paths
+     * @param filter the MetaFilter
+     * @param beforeStories the State of the before stories steps
+     * @return The Map of RunningStory by path
+     */
     public Map<String, RunningStory> runningStoriesAsPaths(List<String> storyPaths, MetaFilter filter,
             State beforeStories) {
-        for (String storyPath : storyPaths) {
-            filterRunning(filter, beforeStories, storyPath, storyOfPath(storyPath));
+        if (storyPaths.isEmpty()) {
+            return runningStories;
+        }
+        ExecutorService loadingService = Executors.newFixedThreadPool(Math.max(1,
+                Math.min(embedderControls.threads(), storyPaths.size())));
+        try {
+            List<Future<Story>> loadingStories = new ArrayList<Future<Story>>();
+            for (String storyPath : storyPaths) {
+                loadingStories.add(loadingService.submit(new LoadingStory(storyPath)));
+            }
+            for (int i = 0; i < storyPaths.size(); i++) {
+                String storyPath = storyPaths.get(i);
+                filterRunning(filter, beforeStories, storyPath, loadedStory(storyPath, loadingStories.get(i)));
+            }
+        } finally {
+            loadingService.shutdownNow();
         }
         return runningStories;
     }
 
+    private Story loadedStory(String storyPath, Future<Story> loadingStory) {
+        try {
+            return loadingStory.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoryLoadingFailed(storyPath, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new StoryLoadingFailed(storyPath, cause);
+        }
+    }
+
     public Map<String, RunningStory> runningStories(List<Story> stories, MetaFilter filter, State beforeStories) {
         for (Story story : stories) {
             filterRunning(filter, beforeStories, story.getPath(), story);
@@ -133,45 +187,41 @@ public class StoryManager {
                 storyPath, story, filter, beforeStories));
     }
 
+    /**
+     * Waits until all running stories are done or, unless failures in stories
+     * are ignored, one of them has failed. The outcome of each story is handled
+     * as soon as the story completes, as the completed stories are taken from
+     * the completion queue rather than polled. Stories exceeding their timeout
+     * are cancelled by the watchdog, independently of this wait.
+     * 
+     * @param failures the BatchFailures to collect the story failures into
+     */
     public void waitUntilAllDoneOrFailed(BatchFailures failures) {
-        long start = System.currentTimeMillis();
-        boolean allDone = false;
-        while (!allDone) {
-            allDone = true;
-            for (RunningStory runningStory : runningStories.values()) {
-                Future<ThrowableStory> future = runningStory.getFuture();
-                if (!future.isDone()) {
-                    allDone = false;
-                    long durationInSecs = storyDurationInSecs(start);
-                    long timeoutInSecs = embedderControls.storyTimeoutInSecs();
-                    if (durationInSecs > timeoutInSecs) {
-                        Story story = runningStory.getStory();
-                        StoryDuration storyDuration = new StoryDuration(durationInSecs, timeoutInSecs);
-                        embedderMonitor.storyTimeout(story, storyDuration);
-                        storyRunner.cancelStory(story, storyDuration);
-                        future.cancel(true);
-                    }
-                    break;
-                } else {
-                    Story story = runningStory.getStory();
-                    try {
-                        ThrowableStory throwableStory = future.get();
-                        Throwable throwable = throwableStory.getThrowable();
-                        if (throwable != null) {
-                            failures.put(story.getPath(), throwable);
-                            if (!embedderControls.ignoreFailureInStories()) {
-                                break;
-                            }
-                        }
-                    } catch (Throwable e) {
-                        failures.put(story.getPath(), e);
-                        if (!embedderControls.ignoreFailureInStories()) {
-                            break;
-                        }
-                    }
-                }
+        Map<Future<ThrowableStory>, RunningStory> pendingStories = new HashMap<Future<ThrowableStory>, RunningStory>();
+        for (RunningStory runningStory : runningStories.values()) {
+            pendingStories.put(runningStory.getFuture(), runningStory);
+        }
+        boolean failed = false;
+        // stories completed before waiting may already have been taken
+        for (RunningStory runningStory : new ArrayList<RunningStory>(pendingStories.values())) {
+            if (runningStory.isDone()) {
+                pendingStories.remove(runningStory.getFuture());
+                failed = failed || !collected(runningStory, failures);
+            }
+        }
+        while (!failed && !pendingStories.isEmpty()) {
+            Future<ThrowableStory> future;
+            try {
+                future = completedStories.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            // completed futures of stories no longer waited for are ignored
+            RunningStory runningStory = pendingStories.remove(future);
+            if (runningStory != null) {
+                failed = !collected(runningStory, failures);
             }
-            tickTock();
         }
         // cancel any outstanding execution which is not done before returning
         for (RunningStory runningStory : runningStories.values()) {
@@ -180,22 +230,157 @@ public class StoryManager {
                 future.cancel(true);
             }
         }
+        // all futures are done, so none is left to be queued for this wait
+        completedStories.clear();
+        stopWatchdog();
+    }
 
+    /**
+     * Returns the number of completed stories queued and not yet collected
+     * 
+     * @return The number of completed stories queued
+     */
+    int completedStoriesQueued() {
+        return completedStories.size();
     }
 
-    private void tickTock() {
+    private boolean collected(RunningStory runningStory, BatchFailures failures) {
+        Story story = runningStory.getStory();
         try {
-            Thread.sleep(100);
-        } catch (InterruptedException e) {
+            Throwable throwable = runningStory.getFuture().get().getThrowable();
+            if (throwable != null) {
+                failures.put(story.getPath(), throwable);
+                return embedderControls.ignoreFailureInStories();
+            }
+        } catch (Throwable e) {
+            failures.put(story.getPath(), e);
+            return embedderControls.ignoreFailureInStories();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the timeout of the story, as specified by its "timeout" meta
+     * property in seconds, else by the {@link EmbedderControls}
+     * 
+     * @param story the Story
+     * @return The timeout in seconds
+     * @throws InvalidStoryTimeout if the "timeout" meta property is not a
+     *             number of seconds
+     */
+    private long storyTimeoutInSecs(Story story) {
+        String timeout = story.getMeta().getProperty(TIMEOUT);
+        if (StringUtils.isNotBlank(timeout)) {
+            try {
+                return Long.parseLong(timeout.trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidStoryTimeout(story.getPath(), timeout, e);
+            }
         }
+        return embedderControls.storyTimeoutInSecs();
     }
 
     private long storyDurationInSecs(long start) {
         return (System.currentTimeMillis() - start) / 1000;
     }
 
+    private synchronized ScheduledExecutorService watchdog() {
+        if (watchdog == null) {
+            watchdog = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "jbehave-story-watchdog");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return watchdog;
+    }
+
+    private synchronized void stopWatchdog() {
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+            watchdog = null;
+        }
+    }
+
     private synchronized RunningStory submit(EnqueuedStory enqueuedStory) {
-        return new RunningStory(enqueuedStory.getStory(), executorService.submit(enqueuedStory));
+        CompletingStory completingStory = new CompletingStory(enqueuedStory);
+        executorService.execute(completingStory);
+        return new RunningStory(enqueuedStory.getStory(), completingStory);
+    }
+
+    private class LoadingStory implements Callable<Story> {
+        private final String storyPath;
+
+        private LoadingStory(String storyPath) {
+            this.storyPath = storyPath;
+        }
+
+        public Story call() throws Exception {
+            return storyOfPath(storyPath);
+        }
+
+    }
+
+    /**
+     * Pushes the future of the story to the queue of completed stories as soon
+     * as the story is done, including when it is cancelled. When the story
+     * starts, the watchdog is scheduled to cancel it once its timeout has
+     * elapsed, so that the time spent queued does not count against the
+     * timeout.
+     */
+    private class CompletingStory extends FutureTask<ThrowableStory> {
+
+        private final Story story;
+        private volatile Future<?> timeout;
+
+        private CompletingStory(EnqueuedStory enqueuedStory) {
+            super(enqueuedStory);
+            this.story = enqueuedStory.getStory();
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+            final long start = System.currentTimeMillis();
+            final long timeoutInSecs;
+            try {
+                timeoutInSecs = storyTimeoutInSecs(story);
+            } catch (InvalidStoryTimeout e) {
+                // the story fails without running
+                setException(e);
+                return;
+            }
+            timeout = watchdog().schedule(new Runnable() {
+                public void run() {
+                    timedOut(storyDurationInSecs(start), timeoutInSecs);
+                }
+            }, timeoutInSecs, TimeUnit.SECONDS);
+            super.run();
+        }
+
+        private void timedOut(long durationInSecs, long timeoutInSecs) {
+            if (isDone()) {
+                return;
+            }
+            StoryDuration storyDuration = new StoryDuration(durationInSecs, timeoutInSecs);
+            embedderMonitor.storyTimeout(story, storyDuration);
+            storyRunner.cancelStory(story, storyDuration);
+            cancel(true);
+        }
+
+        @Override
+        protected void done() {
+            Future<?> timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            completedStories.offer(this);
+        }
+
     }
 
     private static class EnqueuedStory implements Callable<ThrowableStory> {
@@ -252,6 +437,24 @@ public class StoryManager {
 
     }
 
+    @SuppressWarnings("serial")
+    public static class InvalidStoryTimeout extends RuntimeException {
+
+        public InvalidStoryTimeout(String storyPath, String timeout, Throwable cause) {
+            super("Invalid timeout '" + timeout + "' in story " + storyPath + ", expected number of seconds", cause);
+        }
+
+    }
+
+    @SuppressWarnings("serial")
+    public static class StoryLoadingFailed extends RuntimeException {
+
+        public StoryLoadingFailed(String storyPath, Throwable failure) {
+            super(storyPath, failure);
+        }
+
+    }
+
     public static class ThrowableStory {
         private Story story;
         private Throwable throwable;
@@ -2,8 +2,17 @@ package org.jbehave.core.embedder;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.annotations.ScenarioType;
 import org.jbehave.core.configuration.Configuration;
@@ -21,6 +30,7 @@ import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
+import org.jbehave.core.reporters.BufferedStoryReporter;
 import org.jbehave.core.reporters.ConcurrentStoryReporter;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.CandidateSteps;
@@ -45,6 +55,9 @@ import static org.codehaus.plexus.util.StringUtils.capitalizeFirstLetter;
  */
 public class StoryRunner {
 
+    private static final String PARALLEL_SCENARIOS = "parallelScenarios";
+    private static final String PARALLEL_EXAMPLES = "parallelExamples";
+
     private ThreadLocal<FailureStrategy> currentStrategy = new ThreadLocal<FailureStrategy>();
     private ThreadLocal<FailureStrategy> failureStrategy = new ThreadLocal<FailureStrategy>();
     private ThreadLocal<PendingStepStrategy> pendingStepStrategy = new ThreadLocal<PendingStepStrategy>();
@@ -52,8 +65,13 @@ public class StoryRunner {
     private ThreadLocal<StoryReporter> reporter = new ThreadLocal<StoryReporter>();
     private ThreadLocal<String> reporterStoryPath = new ThreadLocal<String>();
     private ThreadLocal<State> storiesState = new ThreadLocal<State>();
-    // should this be volatile?
-    private Map<Story, StoryDuration> cancelledStories = new HashMap<Story, StoryDuration>();
+    // stories are cancelled by the timeout watchdog while running on other threads
+    private Map<Story, StoryDuration> cancelledStories = new ConcurrentHashMap<Story, StoryDuration>();
+    private EmbedderControls embedderControls = new EmbedderControls();
+    // scenarios and examples run concurrently share the threads of the runner
+    private ExecutorService parallelExecutor;
+    private int parallelThreads;
+    private ThreadLocal<Boolean> parallelRun = new ThreadLocal<Boolean>();
 
     /**
      * Run steps before or after a collection of stories. Steps are execute only
@@ -205,6 +223,16 @@ public class StoryRunner {
         return configuration.storyParser().parseStory(storyAsText, storyId);
     }
 
+    /**
+     * Uses the given embedder controls, e.g. to determine whether the scenarios
+     * of a story or the examples of a scenario are run concurrently
+     * 
+     * @param embedderControls the EmbedderControls
+     */
+    public void useEmbedderControls(EmbedderControls embedderControls) {
+        this.embedderControls = embedderControls;
+    }
+
     /**
      * Cancels story execution following a timeout
      * 
@@ -275,49 +303,16 @@ public class StoryRunner {
             boolean runBeforeAndAfterScenarioSteps = shouldRunBeforeOrAfterScenarioSteps(context);
             
             reporter.get().lifecyle(story.getLifecycle());
-            for (Scenario scenario : story.getScenarios()) {
-                // scenario also inherits meta from story
-                boolean scenarioAllowed = true;
-                if (failureOccurred(context) && context.configuration().storyControls().skipScenariosAfterFailure()) {
-                    continue;
-                }
-                reporter.get().beforeScenario(scenario.getTitle());
-                reporter.get().scenarioMeta(scenario.getMeta());
-
-                if (!filterContext.allowed(scenario)) {
-                    reporter.get().scenarioNotAllowed(scenario, context.metaFilterAsString());
-                    scenarioAllowed = false;
-                }
-
-                if (scenarioAllowed) {
-                    if (context.configuration().storyControls().resetStateBeforeScenario()) {
-                        context.resetState();
-                    }
-                    Meta storyAndScenarioMeta = scenario.getMeta().inheritFrom(storyMeta);
-                    // run before scenario steps, if allowed
-                    if (runBeforeAndAfterScenarioSteps) {
-                        runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.BEFORE,
-                                ScenarioType.NORMAL);
-                    }
-                    runLifecycleSteps(context, story.getLifecycle(), Stage.BEFORE, storyAndScenarioMeta);
-                    if (isParameterisedByExamples(scenario)) { // run parametrised scenarios by examples
-                        runScenariosParametrisedByExamples(context, scenario, storyAndScenarioMeta);
-                    } else { // run as plain old scenario
-                        addMetaParameters(storyParameters, storyAndScenarioMeta);
-                        runGivenStories(scenario.getGivenStories(), storyParameters, context);
-                        runScenarioSteps(context, scenario, storyParameters);
-                    }
-                    runLifecycleSteps(context, story.getLifecycle(), Stage.AFTER, storyAndScenarioMeta);
-
-                    // run after scenario steps, if allowed
-                    if (runBeforeAndAfterScenarioSteps) {
-                        runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.AFTER,
-                                ScenarioType.NORMAL);
+            if (runScenariosInParallel(context, story)) {
+                runScenariosInParallel(context, story, filterContext, storyParameters, runBeforeAndAfterScenarioSteps);
+            } else {
+                for (Scenario scenario : story.getScenarios()) {
+                    if (failureOccurred(context) && context.configuration().storyControls().skipScenariosAfterFailure()) {
+                        continue;
                     }
-
+                    runScenario(context, story, scenario, filterContext, storyParameters,
+                            runBeforeAndAfterScenarioSteps);
                 }
-
-                reporter.get().afterScenario();
             }
 
             // run after story steps, if any
@@ -333,6 +328,121 @@ public class StoryRunner {
         }
     }
 
+    private void runScenario(RunContext context, Story story, Scenario scenario, FilteredStory filterContext,
+            Map<String, String> storyParameters, boolean runBeforeAndAfterScenarioSteps) throws Throwable {
+        // scenario also inherits meta from story
+        boolean scenarioAllowed = true;
+        reporter.get().beforeScenario(scenario.getTitle());
+        reporter.get().scenarioMeta(scenario.getMeta());
+
+        if (!filterContext.allowed(scenario)) {
+            reporter.get().scenarioNotAllowed(scenario, context.metaFilterAsString());
+            scenarioAllowed = false;
+        }
+
+        if (scenarioAllowed) {
+            if (context.configuration().storyControls().resetStateBeforeScenario()) {
+                context.resetState();
+            }
+            Meta storyAndScenarioMeta = scenario.getMeta().inheritFrom(story.getMeta());
+            // run before scenario steps, if allowed
+            if (runBeforeAndAfterScenarioSteps) {
+                runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.BEFORE,
+                        ScenarioType.NORMAL);
+            }
+            runLifecycleSteps(context, story.getLifecycle(), Stage.BEFORE, storyAndScenarioMeta);
+            if (isParameterisedByExamples(scenario)) { // run parametrised scenarios by examples
+                runScenariosParametrisedByExamples(context, scenario, storyAndScenarioMeta);
+            } else { // run as plain old scenario
+                addMetaParameters(storyParameters, storyAndScenarioMeta);
+                runGivenStories(scenario.getGivenStories(), storyParameters, context);
+                runScenarioSteps(context, scenario, storyParameters);
+            }
+            runLifecycleSteps(context, story.getLifecycle(), Stage.AFTER, storyAndScenarioMeta);
+
+            // run after scenario steps, if allowed
+            if (runBeforeAndAfterScenarioSteps) {
+                runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.AFTER,
+                        ScenarioType.NORMAL);
+            }
+
+        }
+
+        reporter.get().afterScenario();
+    }
+
+    /**
+     * Determines if the scenarios of the story are run concurrently, which
+     * requires the scenarios to be independent of each other: the state must
+     * be reset before each scenario and scenarios must not be skipped after a
+     * failure. Given stories always run their scenarios in sequence.
+     */
+    private boolean runScenariosInParallel(RunContext context, Story story) {
+        StoryControls storyControls = context.configuration().storyControls();
+        return embedderControls.scenarioThreads() > 1
+                && (embedderControls.parallelScenarios() || story.getMeta().hasProperty(PARALLEL_SCENARIOS))
+                && story.getScenarios().size() > 1 && !context.givenStory()
+                && storyControls.resetStateBeforeScenario() && !storyControls.skipScenariosAfterFailure();
+    }
+
+    /**
+     * Runs the scenarios of the story concurrently, each scenario reporting
+     * to its own buffer, so that the story is reported as if run in sequence.
+     */
+    private void runScenariosInParallel(RunContext context, final Story story, final FilteredStory filterContext,
+            Map<String, String> storyParameters, final boolean runBeforeAndAfterScenarioSteps) throws Throwable {
+        ParallelRuns runs = new ParallelRuns(context);
+        try {
+            for (final Scenario scenario : story.getScenarios()) {
+                final Map<String, String> scenarioParameters = new HashMap<String, String>(storyParameters);
+                runs.submit(new ParallelRun(context.scenarioContext()) {
+                    protected void run(RunContext scenarioContext) throws Throwable {
+                        runScenario(scenarioContext, story, scenario, filterContext, scenarioParameters,
+                                runBeforeAndAfterScenarioSteps);
+                    }
+                });
+            }
+            runs.mergeAll();
+        } finally {
+            runs.cancelUnmerged();
+        }
+    }
+
+    /**
+     * Returns the executor running the scenarios and examples concurrently,
+     * shared by all the stories run and created anew only if the number of
+     * scenario threads changes. Its threads are daemons, so that it need not
+     * be shut down.
+     */
+    private synchronized ExecutorService parallelExecutor() {
+        int threads = embedderControls.scenarioThreads();
+        if (parallelExecutor == null || parallelThreads != threads) {
+            if (parallelExecutor != null) {
+                // let the runs already submitted complete
+                parallelExecutor.shutdown();
+            }
+            parallelExecutor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "jbehave-scenario-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            parallelThreads = threads;
+        }
+        return parallelExecutor;
+    }
+
+    private ParallelOutcome parallelOutcome(Future<ParallelOutcome> outcome) throws Throwable {
+        try {
+            return outcome.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
     private void addMetaParameters(Map<String, String> storyParameters, Meta meta) {
         for (String name : meta.getPropertyNames()) {
             storyParameters.put(name, meta.getProperty(name));
@@ -420,29 +530,65 @@ public class StoryRunner {
         return scenario.getExamplesTable().getRowCount() > 0 && !scenario.getGivenStories().requireParameters();
     }
 
-    private void runScenariosParametrisedByExamples(RunContext context, Scenario scenario, Meta storyAndScenarioMeta)
-            throws Throwable {
+    private void runScenariosParametrisedByExamples(RunContext context, final Scenario scenario,
+            final Meta storyAndScenarioMeta) throws Throwable {
         ExamplesTable table = scenario.getExamplesTable();
         reporter.get().beforeExamples(scenario.getSteps(), table);
-    	Keywords keywords = context.configuration().keywords();
-        for (Map<String, String> scenarioParameters : table.getRows()) {
-			Meta parameterMeta = parameterMeta(keywords, scenarioParameters);
-			if ( !parameterMeta.isEmpty() && !context.filter.allow(parameterMeta) ){
-				continue;
-			}
-            reporter.get().example(scenarioParameters);
-            if (context.configuration().storyControls().resetStateBeforeScenario()) {
-                context.resetState();
+        Keywords keywords = context.configuration().keywords();
+        boolean parallel = runExamplesInParallel(context, storyAndScenarioMeta);
+        // the rows are submitted as they are iterated, so that no more rows
+        // than running concurrently are held in memory
+        ParallelRuns runs = new ParallelRuns(context);
+        try {
+            for (final Map<String, String> scenarioParameters : table.iterateRows()) {
+                Meta parameterMeta = parameterMeta(keywords, scenarioParameters);
+                if (!parameterMeta.isEmpty() && !context.filter.allow(parameterMeta)) {
+                    continue;
+                }
+                if (parallel) {
+                    runs.submit(new ParallelRun(context.scenarioContext()) {
+                        protected void run(RunContext scenarioContext) throws Throwable {
+                            runExample(scenarioContext, scenario, storyAndScenarioMeta, scenarioParameters);
+                        }
+                    });
+                } else {
+                    runExample(context, scenario, storyAndScenarioMeta, scenarioParameters);
+                }
             }
-            runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.BEFORE, ScenarioType.EXAMPLE);
-            addMetaParameters(scenarioParameters, storyAndScenarioMeta);
-            runGivenStories(scenario.getGivenStories(), scenarioParameters, context);
-            runScenarioSteps(context, scenario, scenarioParameters);
-            runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.AFTER, ScenarioType.EXAMPLE);
+            runs.mergeAll();
+        } finally {
+            runs.cancelUnmerged();
         }
         reporter.get().afterExamples();
     }
 
+    private void runExample(RunContext context, Scenario scenario, Meta storyAndScenarioMeta,
+            Map<String, String> exampleParameters) throws Throwable {
+        // the example is reported as is, the reporting being possibly buffered
+        reporter.get().example(exampleParameters);
+        if (context.configuration().storyControls().resetStateBeforeScenario()) {
+            context.resetState();
+        }
+        runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.BEFORE, ScenarioType.EXAMPLE);
+        Map<String, String> scenarioParameters = new HashMap<String, String>(exampleParameters);
+        addMetaParameters(scenarioParameters, storyAndScenarioMeta);
+        runGivenStories(scenario.getGivenStories(), scenarioParameters, context);
+        runScenarioSteps(context, scenario, scenarioParameters);
+        runBeforeOrAfterScenarioSteps(context, scenario, storyAndScenarioMeta, Stage.AFTER, ScenarioType.EXAMPLE);
+    }
+
+    /**
+     * Determines if the examples of a parametrised scenario are run
+     * concurrently, which requires the state to be reset before each example.
+     * The examples of a scenario already running concurrently, which would
+     * wait on the threads they occupy, are run in sequence.
+     */
+    private boolean runExamplesInParallel(RunContext context, Meta storyAndScenarioMeta) {
+        return embedderControls.scenarioThreads() > 1 && parallelRun.get() == null
+                && (embedderControls.parallelExamples() || storyAndScenarioMeta.hasProperty(PARALLEL_EXAMPLES))
+                && context.configuration().storyControls().resetStateBeforeScenario();
+    }
+
 	private Meta parameterMeta(Keywords keywords,
 			Map<String, String> scenarioParameters) {
 		String meta = keywords.meta();
@@ -540,17 +686,149 @@ public class StoryRunner {
             return new SomethingHappened(stepFailure);
         }
 
-        private UUIDExceptionWrapper mostImportantOf(UUIDExceptionWrapper failure1, UUIDExceptionWrapper failure2) {
-            return failure1 == null ? failure2
-                    : failure1.getCause() instanceof PendingStepFound ? (failure2 == null ? failure1 : failure2)
-                            : failure1;
+    }
+
+    private UUIDExceptionWrapper mostImportantOf(UUIDExceptionWrapper failure1, UUIDExceptionWrapper failure2) {
+        return failure1 == null ? failure2
+                : failure1.getCause() instanceof PendingStepFound ? (failure2 == null ? failure1 : failure2)
+                        : failure1;
+    }
+
+    private FailureStrategy strategyFor(Throwable failure) {
+        if (failure instanceof PendingStepFound) {
+            return pendingStepStrategy.get();
+        } else {
+            return failureStrategy.get();
+        }
+    }
+
+    /**
+     * Runs the parts of a story submitted concurrently, using the scenario
+     * threads, at most as many being submitted and not yet merged as there are
+     * threads. Once done, the buffered reporting of each run is replayed and
+     * its outcome merged into the context of the story, in the order in which
+     * the runs were submitted.
+     */
+    private class ParallelRuns {
+        private final RunContext context;
+        private final int maxRuns;
+        private final LinkedList<Future<ParallelOutcome>> outcomes = new LinkedList<Future<ParallelOutcome>>();
+
+        private ParallelRuns(RunContext context) {
+            this.context = context;
+            this.maxRuns = embedderControls.scenarioThreads();
         }
 
-        private FailureStrategy strategyFor(Throwable failure) {
-            if (failure instanceof PendingStepFound) {
-                return pendingStepStrategy.get();
-            } else {
-                return failureStrategy.get();
+        private void submit(ParallelRun run) throws Throwable {
+            if (outcomes.size() >= maxRuns) {
+                mergeFirst();
+            }
+            outcomes.add(parallelExecutor().submit(run));
+        }
+
+        private void mergeAll() throws Throwable {
+            while (!outcomes.isEmpty()) {
+                mergeFirst();
+            }
+        }
+
+        private void mergeFirst() throws Throwable {
+            parallelOutcome(outcomes.getFirst()).mergeInto(context);
+            outcomes.removeFirst();
+        }
+
+        /**
+         * Cancels the runs not merged, e.g. upon failure or interruption
+         */
+        private void cancelUnmerged() {
+            for (Future<ParallelOutcome> outcome : outcomes) {
+                outcome.cancel(true);
+            }
+            outcomes.clear();
+        }
+    }
+
+    /**
+     * Runs a part of a story, e.g. a scenario or an example, on a thread of its
+     * own, setting up the thread state of the runner as it was on the story
+     * thread when the run was submitted and reporting to a buffer.
+     */
+    private abstract class ParallelRun implements Callable<ParallelOutcome> {
+        private final RunContext scenarioContext;
+        private final String storyPath;
+        private final FailureStrategy strategy;
+        private final UUIDExceptionWrapper failure;
+
+        protected ParallelRun(RunContext scenarioContext) {
+            this.scenarioContext = scenarioContext;
+            this.storyPath = reporterStoryPath.get();
+            this.strategy = currentStrategy.get();
+            this.failure = storyFailure.get();
+        }
+
+        public ParallelOutcome call() throws Exception {
+            BufferedStoryReporter buffer = new BufferedStoryReporter();
+            State initialState = scenarioContext.state();
+            reporter.set(buffer.reporter());
+            reporterStoryPath.set(storyPath);
+            pendingStepStrategy.set(scenarioContext.configuration().pendingStepStrategy());
+            failureStrategy.set(scenarioContext.configuration().failureStrategy());
+            currentStrategy.set(strategy);
+            storyFailure.set(failure);
+            parallelRun.set(Boolean.TRUE);
+            try {
+                run(scenarioContext);
+                State state = scenarioContext.state();
+                return new ParallelOutcome(buffer, state != initialState ? state : null, storyFailure.get());
+            } catch (Exception e) {
+                throw e;
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UUIDExceptionWrapper(e);
+            } finally {
+                reporter.remove();
+                reporterStoryPath.remove();
+                pendingStepStrategy.remove();
+                failureStrategy.remove();
+                currentStrategy.remove();
+                storyFailure.remove();
+                parallelRun.remove();
+            }
+        }
+
+        /**
+         * Runs the part of the story
+         * 
+         * @param scenarioContext the RunContext of the run, to be used in
+         *            place of the context of the story
+         */
+        protected abstract void run(RunContext scenarioContext) throws Throwable;
+    }
+
+    private class ParallelOutcome {
+        private final BufferedStoryReporter buffer;
+        private final State state;
+        private final UUIDExceptionWrapper failure;
+
+        private ParallelOutcome(BufferedStoryReporter buffer, State state, UUIDExceptionWrapper failure) {
+            this.buffer = buffer;
+            this.state = state;
+            this.failure = failure;
+        }
+
+        /**
+         * Replays the reporting of the run and merges its outcome, on the
+         * thread which submitted the run.
+         */
+        private void mergeInto(RunContext context) {
+            buffer.replayTo(reporter.get());
+            if (failure != null) {
+                storyFailure.set(mostImportantOf(storyFailure.get(), failure));
+                currentStrategy.set(strategyFor(storyFailure.get()));
+            }
+            if (state != null) {
+                context.stateIs(state);
             }
         }
     }
@@ -660,6 +938,12 @@ public class StoryRunner {
             return configuration.stepCollector().collectScenarioSteps(candidateSteps, scenario, parameters);
         }
 
+        public RunContext scenarioContext() {
+            RunContext scenarioContext = new RunContext(configuration, candidateSteps, path, filter, givenStory, null);
+            scenarioContext.state = state;
+            return scenarioContext;
+        }
+
         public RunContext childContextFor(GivenStory givenStory) {
             String actualPath = configuration.pathCalculator().calculate(path, givenStory.getPath());
             return new RunContext(configuration, candidateSteps, actualPath, filter, true, this);
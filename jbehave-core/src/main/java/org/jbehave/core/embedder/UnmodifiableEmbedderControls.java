@@ -56,6 +56,21 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         return delegate.threads();
     }
 
+    @Override
+    public boolean parallelScenarios() {
+        return delegate.parallelScenarios();
+    }
+
+    @Override
+    public boolean parallelExamples() {
+        return delegate.parallelExamples();
+    }
+
+    @Override
+    public int scenarioThreads() {
+        return delegate.scenarioThreads();
+    }
+
     @Override
     public EmbedderControls doBatch(boolean batch) {
         throw notAllowed();
@@ -101,6 +116,21 @@ public class UnmodifiableEmbedderControls extends EmbedderControls {
         throw notAllowed();
     }
 
+    @Override
+    public EmbedderControls doParallelScenarios(boolean parallelScenarios) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls doParallelExamples(boolean parallelExamples) {
+        throw notAllowed();
+    }
+
+    @Override
+    public EmbedderControls useScenarioThreads(int scenarioThreads) {
+        throw notAllowed();
+    }
+
     private RuntimeException notAllowed() {
         return new ModificationNotAllowed();
     }
@@ -0,0 +1,154 @@
+package org.jbehave.core.embedder.executors;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jbehave.core.embedder.EmbedderControls;
+
+/**
+ * Creates executors which run each story on its own virtual thread, suited to
+ * stories whose steps spend most of their time waiting on I/O. The number of
+ * stories running concurrently can optionally be limited, in which case the
+ * stories beyond the limit wait, on their virtual threads, for a permit.
+ * <p>
+ * Virtual threads are looked up reflectively, as they require Java 21. On
+ * earlier JVMs a cached thread pool is created instead, or a fixed thread pool
+ * of the given limit.
+ * </p>
+ */
+public class VirtualThreadExecutors implements ExecutorServiceFactory {
+
+    private final int maxConcurrentStories;
+
+    /**
+     * Creates executors which do not limit the number of concurrent stories
+     */
+    public VirtualThreadExecutors() {
+        this(0);
+    }
+
+    /**
+     * Creates executors which limit the number of concurrent stories
+     *
+     * @param maxConcurrentStories the maximum number of stories running
+     *            concurrently, or 0 for no limit
+     */
+    public VirtualThreadExecutors(int maxConcurrentStories) {
+        if (maxConcurrentStories < 0) {
+            throw new IllegalArgumentException("Invalid max concurrent stories: " + maxConcurrentStories);
+        }
+        this.maxConcurrentStories = maxConcurrentStories;
+    }
+
+    public ExecutorService create(EmbedderControls controls) {
+        ExecutorService virtualThreads = virtualThreadPerTaskExecutor();
+        if (virtualThreads == null) {
+            return maxConcurrentStories > 0 ? Executors.newFixedThreadPool(maxConcurrentStories) : Executors
+                    .newCachedThreadPool();
+        }
+        return maxConcurrentStories > 0 ? new LimitedExecutorService(virtualThreads, maxConcurrentStories)
+                : virtualThreads;
+    }
+
+    /**
+     * Returns whether virtual threads are available in the running JVM
+     *
+     * @return A boolean, <code>true</code> if stories will run on virtual
+     *         threads
+     */
+    public static boolean virtualThreadsAvailable() {
+        return virtualThreadFactory() != null;
+    }
+
+    private static ExecutorService virtualThreadPerTaskExecutor() {
+        ThreadFactory factory = virtualThreadFactory();
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "jbehave-story-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Limits the number of tasks running concurrently on the delegate, making
+     * the tasks beyond the limit wait for a permit on their own thread rather
+     * than blocking the submitter.
+     */
+    static class LimitedExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        LimitedExecutorService(ExecutorService delegate, int limit) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(limit, true);
+        }
+
+        public void execute(final Runnable command) {
+            delegate.execute(new Runnable() {
+                public void run() {
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        // interrupted while waiting, e.g. upon shutdown: the
+                        // task is not run without a permit, but cancelled so
+                        // that whoever waits for it is not left waiting
+                        Thread.currentThread().interrupt();
+                        if (command instanceof Future) {
+                            ((Future<?>) command).cancel(false);
+                        }
+                        return;
+                    }
+                    try {
+                        command.run();
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        }
+
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+
+    }
+
+}
@@ -4,13 +4,19 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -137,6 +143,37 @@ import static java.util.regex.Pattern.compile;
  * {@link #withRows(List<Map<String,String>>)} method.
  * 
  * </p>
+ * <p>
+ * Only the headers are parsed when the table is created, the rows being parsed
+ * upon first access. Very large tables can be consumed row by row via
+ * {@link #iterateRows()} or {@link #iterateRowsAsParameters()}, which parse
+ * each row on demand without ever holding all the rows in memory, unless the
+ * rows have already been accessed by position or modified.
+ * </p>
+ * <p>
+ * The headers are held once and the rows as arrays of values indexed by
+ * column. The maps returned by {@link #getRow(int)} and {@link #getRows()} are
+ * views of the row values, so that modifying them modifies the table.
+ * </p>
+ * <p>
+ * The rows can also be read from a data file, specified via the "file"
+ * inlined property as a file path or, failing that, as the path of a classpath
+ * resource in the file system:
+ * 
+ * <pre>
+ * {file=data/trades.table}
+ * </pre>
+ * 
+ * The file is memory-mapped, rather than read, and its rows are parsed on
+ * demand, the only memory held being the positions of the rows when they are
+ * accessed by position. The file is read as UTF-8, unless specified otherwise
+ * via the "encoding" inlined property, which must encode the ASCII characters
+ * as single bytes, e.g. ISO-8859-1 but not UTF-16. The file is expected to
+ * hold the header and the rows in the table format, except for files with the
+ * ".csv" extension, whose headers and values are separated by commas, the
+ * values being possibly empty or enclosed in double quotes. Transformers are
+ * not applied to data files.
+ * </p>
  * The parsing code assumes that the number of columns for data rows is the same
  * as in the header, if a row has less fields, the remaining are filled with
  * empty values, if it has more, the fields are ignored.
@@ -148,11 +185,11 @@ public class ExamplesTable {
 
     public static final ExamplesTable EMPTY = new ExamplesTable("");
 
-    private static final String ROW_SEPARATOR = "\r?\n";
     private static final String NEW_LINE = "\n";
     private static final String HEADER_SEPARATOR = "|";
     private static final String VALUE_SEPARATOR = "|";
     private static final String IGNORABLE_SEPARATOR = "|--";
+    private static final String CSV_SEPARATOR = ",";
 
     private final String tableAsString;
     private final String headerSeparator;
@@ -161,7 +198,12 @@ public class ExamplesTable {
     private final ParameterConverters parameterConverters;
     private final TableTransformers tableTransformers;
     private final List<String> headers = new ArrayList<String>();
-    private final List<Map<String, String>> data = new ArrayList<Map<String, String>>();
+    private volatile List<String[]> data;
+    private TableLines lines = new StringLines(EMPTY_VALUE);
+    private boolean csv;
+    private int rowsPosition;
+    private volatile int[] rowPositions;
+    private volatile int rowCount = -1;
     private final Properties properties = new Properties();
     private String propertiesAsString = "";
     private Map<String, String> namedParameters = new HashMap<String, String>();
@@ -203,7 +245,15 @@ public class ExamplesTable {
     }
 
     private ExamplesTable(ExamplesTable other, Row defaults) {
-        this.data.addAll(other.data);
+        List<String[]> otherData = other.data;
+        if (otherData != null) {
+            this.data = new ArrayList<String[]>(otherData);
+        }
+        this.lines = other.lines;
+        this.csv = other.csv;
+        this.rowsPosition = other.rowsPosition;
+        this.rowPositions = other.rowPositions;
+        this.trim = other.trim;
         this.tableAsString = other.tableAsString;
         this.headerSeparator = other.headerSeparator;
         this.valueSeparator = other.valueSeparator;
@@ -239,36 +289,77 @@ public class ExamplesTable {
 
     private void parseTable(String tableAsString) {
         headers.clear();
-        data.clear();
-        String transformer = properties.getProperty("transformer");
-        if (transformer != null) {
-            tableAsString = tableTransformers.transform(transformer, tableAsString, properties);
-        }
-        parseByRows(headers, data, tableAsString);
-    }
-
-    private void parseByRows(List<String> headers, List<Map<String, String>> data, String tableAsString) {
-        String[] rows = tableAsString.split(ROW_SEPARATOR);
-        for (int row = 0; row < rows.length; row++) {
-            String rowAsString = rows[row].trim();
-            if (rowAsString.startsWith(properties.getProperty("ignorableSeparator")) || rowAsString.length() == 0) {
-                // skip ignorable or empty lines
-                continue;
-            } else if (headers.isEmpty()) {
-                headers.addAll(TableUtils.parseRow(rowAsString, properties.getProperty("headerSeparator"),
-                        properties.getProperty("commentSeparator"), trim));
-            } else {
-                List<String> columns = TableUtils.parseRow(rowAsString, properties.getProperty("valueSeparator"),
-                        properties.getProperty("commentSeparator"), trim);
-                Map<String, String> map = new LinkedHashMap<String, String>();
-                for (int column = 0; column < columns.size(); column++) {
-                    if (column < headers.size()) {
-                        map.put(headers.get(column), columns.get(column));
+        data = null;
+        rowCount = -1;
+        rowPositions = null;
+        csv = false;
+        String file = properties.getProperty("file");
+        if (file != null) {
+            lines = new MappedTableLines(file, properties.getProperty("encoding", "UTF-8"));
+            if (file.endsWith(".csv")) {
+                csv = true;
+                properties.setProperty("headerSeparator", CSV_SEPARATOR);
+                properties.setProperty("valueSeparator", CSV_SEPARATOR);
+            }
+        } else {
+            String transformer = properties.getProperty("transformer");
+            if (transformer != null) {
+                tableAsString = tableTransformers.transform(transformer, tableAsString, properties);
+            }
+            lines = new StringLines(tableAsString);
+        }
+        RowScanner scanner = new RowScanner(lines, 0);
+        String headerAsString = scanner.next();
+        if (headerAsString != null) {
+            for (String header : parseValues(headerAsString, properties.getProperty("headerSeparator"))) {
+                headers.add(header.intern());
+            }
+        }
+        rowsPosition = scanner.position();
+    }
+
+    private List<String[]> data() {
+        List<String[]> parsed = data;
+        if (parsed == null) {
+            synchronized (this) {
+                parsed = data;
+                if (parsed == null) {
+                    parsed = new ArrayList<String[]>();
+                    RowScanner scanner = new RowScanner(lines, rowsPosition);
+                    String rowAsString;
+                    while ((rowAsString = scanner.next()) != null) {
+                        parsed.add(parseRow(rowAsString));
                     }
+                    data = parsed;
                 }
-                data.add(map);
             }
         }
+        return parsed;
+    }
+
+    private List<String> parseValues(String rowAsString, String separator) {
+        if (csv) {
+            return TableUtils.parseCsvRow(rowAsString, trim);
+        }
+        return TableUtils.parseRow(rowAsString, separator, properties.getProperty("commentSeparator"), trim);
+    }
+
+    private String[] parseRow(String rowAsString) {
+        List<String> columns = parseValues(rowAsString, properties.getProperty("valueSeparator"));
+        int size = Math.min(columns.size(), headers.size());
+        return columns.subList(0, size).toArray(new String[size]);
+    }
+
+    private String valueOf(String[] values, int column) {
+        return column < values.length && values[column] != null ? values[column] : EMPTY_VALUE;
+    }
+
+    private Map<String, String> asMap(String[] values) {
+        Map<String, String> map = new LinkedHashMap<String, String>();
+        for (int column = 0; column < headers.size(); column++) {
+            map.put(headers.get(column), valueOf(values, column));
+        }
+        return map;
     }
 
     public ExamplesTable withDefaults(Parameters defaults) {
@@ -281,20 +372,45 @@ public class ExamplesTable {
     }
 
     public ExamplesTable withRowValues(int row, Map<String, String> values) {
-        getRow(row).putAll(values);
+        List<String[]> data = data();
+        if (row > data.size() - 1) {
+            throw new RowNotFound(row);
+        }
+        String[] rowValues = data.get(row);
         for (String header : values.keySet()) {
-            if (!headers.contains(header)) {
-                headers.add(header);
+            int column = headers.indexOf(header);
+            if (column < 0) {
+                column = headers.size();
+                headers.add(header.intern());
             }
+            if (column >= rowValues.length) {
+                String[] grown = new String[headers.size()];
+                System.arraycopy(rowValues, 0, grown, 0, rowValues.length);
+                rowValues = grown;
+            }
+            rowValues[column] = values.get(header);
         }
+        data.set(row, rowValues);
         return this;
     }
 
     public ExamplesTable withRows(List<Map<String, String>> values) {
-        this.data.clear();
-        this.data.addAll(values);
+        // the values are read before the table is modified, as they may be
+        // views of its own rows
+        List<String> headers = new ArrayList<String>(values.get(0).keySet());
+        List<String[]> data = new ArrayList<String[]>(values.size());
+        for (Map<String, String> map : values) {
+            String[] row = new String[headers.size()];
+            for (int column = 0; column < row.length; column++) {
+                row[column] = map.get(headers.get(column));
+            }
+            data.add(row);
+        }
         this.headers.clear();
-        this.headers.addAll(values.get(0).keySet());
+        for (String header : headers) {
+            this.headers.add(header.intern());
+        }
+        this.data = data;
         return this;
     }
 
@@ -307,18 +423,18 @@ public class ExamplesTable {
     }
 
     public Map<String, String> getRow(int row) {
+        if (data == null && !lines.inMemory()) {
+            int[] positions = rowPositions();
+            if (row > positions.length - 1) {
+                throw new RowNotFound(row);
+            }
+            return new RowValues(row, parseRow(new RowScanner(lines, positions[row]).next()));
+        }
+        List<String[]> data = data();
         if (row > data.size() - 1) {
             throw new RowNotFound(row);
         }
-        Map<String, String> values = data.get(row);
-        if (headers.size() != values.keySet().size()) {
-            for (String header : headers) {
-                if (!values.containsKey(header)) {
-                    values.put(header, EMPTY_VALUE);
-                }
-            }
-        }
-        return values;
+        return new RowValues(row, data.get(row));
     }
 
     public Parameters getRowAsParameters(int row) {
@@ -344,7 +460,22 @@ public class ExamplesTable {
     }
 
     public int getRowCount() {
-        return data.size();
+        List<String[]> parsed = data;
+        if (parsed != null) {
+            return parsed.size();
+        }
+        if (rowPositions != null) {
+            return rowPositions.length;
+        }
+        if (rowCount < 0) {
+            int count = 0;
+            RowScanner scanner = new RowScanner(lines, rowsPosition);
+            while (scanner.next() != null) {
+                count++;
+            }
+            rowCount = count;
+        }
+        return rowCount;
     }
 
     public List<Map<String, String>> getRows() {
@@ -355,6 +486,77 @@ public class ExamplesTable {
         return rows;
     }
 
+    /**
+     * Iterates over the rows, parsing each row on demand if the rows have not
+     * yet been accessed by position, so that the full table is never held in
+     * memory
+     * 
+     * @return The Iterable over the row values
+     */
+    public Iterable<Map<String, String>> iterateRows() {
+        return new Iterable<Map<String, String>>() {
+            public Iterator<Map<String, String>> iterator() {
+                final Iterator<String[]> rows = rowValuesIterator();
+                return new Iterator<Map<String, String>>() {
+                    public boolean hasNext() {
+                        return rows.hasNext();
+                    }
+
+                    public Map<String, String> next() {
+                        return asMap(rows.next());
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
+    private Iterator<String[]> rowValuesIterator() {
+        List<String[]> parsed = data;
+        if (parsed != null) {
+            return new ParsedRowIterator(parsed);
+        }
+        return new ScanningRowIterator(new RowScanner(lines, rowsPosition));
+    }
+
+    public Iterable<Parameters> iterateRowsAsParameters() {
+        return iterateRowsAsParameters(false);
+    }
+
+    /**
+     * Iterates over the rows as parameters, parsing each row on demand as in
+     * {@link #iterateRows()}
+     * 
+     * @param replaceNamedParameters the boolean flag to replace named
+     *            parameters
+     * @return The Iterable over the row parameters
+     */
+    public Iterable<Parameters> iterateRowsAsParameters(final boolean replaceNamedParameters) {
+        return new Iterable<Parameters>() {
+            public Iterator<Parameters> iterator() {
+                final Iterator<Map<String, String>> rows = iterateRows().iterator();
+                return new Iterator<Parameters>() {
+                    public boolean hasNext() {
+                        return rows.hasNext();
+                    }
+
+                    public Parameters next() {
+                        Map<String, String> rowValues = rows.next();
+                        return createParameters(replaceNamedParameters ? replaceNamedParameters(rowValues)
+                                : rowValues);
+                    }
+
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+
     public List<Parameters> getRowsAsParameters() {
         return getRowsAsParameters(false);
     }
@@ -434,7 +636,7 @@ public class ExamplesTable {
     }
 
     public String asString() {
-        if (data.isEmpty()) {
+        if (getRowCount() == 0) {
             return EMPTY_VALUE;
         }
         return format();
@@ -450,10 +652,11 @@ public class ExamplesTable {
             sb.append(headerSeparator).append(header);
         }
         sb.append(headerSeparator).append(NEW_LINE);
-        for (Map<String, String> row : getRows()) {
-            for (String header : headers) {
+        for (Iterator<String[]> rows = rowValuesIterator(); rows.hasNext();) {
+            String[] values = rows.next();
+            for (int column = 0; column < headers.size(); column++) {
                 sb.append(valueSeparator);
-                sb.append(row.get(header));
+                sb.append(valueOf(values, column));
             }
             sb.append(valueSeparator).append(NEW_LINE);
         }
@@ -465,6 +668,290 @@ public class ExamplesTable {
         return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
     }
 
+    /**
+     * Indexes the positions of the rows, for positional access to rows which
+     * are not held in memory
+     */
+    private synchronized int[] rowPositions() {
+        if (rowPositions == null) {
+            int[] positions = new int[16];
+            int count = 0;
+            RowScanner scanner = new RowScanner(lines, rowsPosition);
+            while (scanner.next() != null) {
+                if (count == positions.length) {
+                    int[] grown = new int[count * 2];
+                    System.arraycopy(positions, 0, grown, 0, count);
+                    positions = grown;
+                }
+                positions[count++] = scanner.rowPosition();
+            }
+            int[] indexed = new int[count];
+            System.arraycopy(positions, 0, indexed, 0, count);
+            rowPositions = indexed;
+        }
+        return rowPositions;
+    }
+
+    /**
+     * The values of a row as a map keyed by header, reading from and writing
+     * to the values held by the table. The rows of a table whose rows are not
+     * held in memory are parsed and held upon the first modification. A value
+     * removed from the map is removed from this view only, the table holding
+     * an empty value in its place, as a row with missing values does.
+     */
+    private class RowValues extends AbstractMap<String, String> {
+
+        private final int row;
+        private final String[] parsedValues;
+        private final Set<String> removed = new HashSet<String>();
+
+        RowValues(int row, String[] parsedValues) {
+            this.row = row;
+            this.parsedValues = parsedValues;
+        }
+
+        private String[] rowValues() {
+            // once the rows are held, they are read as modified
+            List<String[]> held = data;
+            return held != null ? held.get(row) : parsedValues;
+        }
+
+        @Override
+        public String get(Object header) {
+            int column = headers.indexOf(header);
+            return column < 0 || removed.contains(header) ? null : valueOf(rowValues(), column);
+        }
+
+        @Override
+        public boolean containsKey(Object header) {
+            return headers.contains(header) && !removed.contains(header);
+        }
+
+        @Override
+        public String put(String header, String value) {
+            String previous = get(header);
+            withRowValues(row, Collections.singletonMap(header, value));
+            removed.remove(header);
+            return previous;
+        }
+
+        @Override
+        public String remove(Object header) {
+            if (!containsKey(header)) {
+                return null;
+            }
+            String previous = get(header);
+            withRowValues(row, Collections.singletonMap((String) header, EMPTY_VALUE));
+            removed.add((String) header);
+            return previous;
+        }
+
+        @Override
+        public Set<Map.Entry<String, String>> entrySet() {
+            return new AbstractSet<Map.Entry<String, String>>() {
+
+                @Override
+                public Iterator<Map.Entry<String, String>> iterator() {
+                    return new Iterator<Map.Entry<String, String>>() {
+                        private int column;
+                        private String current;
+
+                        public boolean hasNext() {
+                            while (column < headers.size() && removed.contains(headers.get(column))) {
+                                column++;
+                            }
+                            return column < headers.size();
+                        }
+
+                        public Map.Entry<String, String> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            current = headers.get(column++);
+                            return new RowValue(current);
+                        }
+
+                        public void remove() {
+                            if (current == null) {
+                                throw new IllegalStateException();
+                            }
+                            RowValues.this.remove(current);
+                            current = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return headers.size() - removed.size();
+                }
+            };
+        }
+
+        private class RowValue implements Map.Entry<String, String> {
+
+            private final String header;
+
+            RowValue(String header) {
+                this.header = header;
+            }
+
+            public String getKey() {
+                return header;
+            }
+
+            public String getValue() {
+                return get(header);
+            }
+
+            public String setValue(String value) {
+                return put(header, value);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (!(obj instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                return header.equals(other.getKey()) && getValue().equals(other.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return header.hashCode() ^ getValue().hashCode();
+            }
+
+            @Override
+            public String toString() {
+                return header + "=" + getValue();
+            }
+        }
+    }
+
+    /**
+     * Scans the rows as strings, skipping the ignorable and empty rows
+     */
+    private class RowScanner {
+
+        private final TableLines lines;
+        private int position;
+        private int rowPosition;
+
+        RowScanner(TableLines lines, int position) {
+            this.lines = lines;
+            this.position = position;
+        }
+
+        int position() {
+            return position;
+        }
+
+        int rowPosition() {
+            return rowPosition;
+        }
+
+        String next() {
+            String ignorableSeparator = properties.getProperty("ignorableSeparator");
+            while (position < lines.length()) {
+                int end = lines.endOfLine(position);
+                String rowAsString = lines.line(position, end).trim();
+                rowPosition = position;
+                position = end + 1;
+                if (rowAsString.length() > 0 && !rowAsString.startsWith(ignorableSeparator)) {
+                    return rowAsString;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class StringLines implements TableLines {
+
+        private final String linesAsString;
+
+        StringLines(String linesAsString) {
+            this.linesAsString = linesAsString;
+        }
+
+        public int length() {
+            return linesAsString.length();
+        }
+
+        public int endOfLine(int start) {
+            int end = linesAsString.indexOf(NEW_LINE, start);
+            return end < 0 ? linesAsString.length() : end;
+        }
+
+        public String line(int start, int end) {
+            return linesAsString.substring(start, end);
+        }
+
+        public boolean inMemory() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return linesAsString;
+        }
+    }
+
+    private static class ParsedRowIterator implements Iterator<String[]> {
+
+        private final List<String[]> data;
+        private final int size;
+        private int row;
+
+        ParsedRowIterator(List<String[]> data) {
+            this.data = data;
+            this.size = data.size();
+        }
+
+        public boolean hasNext() {
+            return row < size;
+        }
+
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return data.get(row++);
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class ScanningRowIterator implements Iterator<String[]> {
+
+        private final RowScanner scanner;
+        private String nextRow;
+
+        ScanningRowIterator(RowScanner scanner) {
+            this.scanner = scanner;
+            this.nextRow = scanner.next();
+        }
+
+        public boolean hasNext() {
+            return nextRow != null;
+        }
+
+        public String[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String[] values = parseRow(nextRow);
+            nextRow = scanner.next();
+            return values;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class RowNotFound extends RuntimeException {
 
@@ -474,6 +961,19 @@ public class ExamplesTable {
 
     }
 
+    @SuppressWarnings("serial")
+    public static class TableFileNotMapped extends RuntimeException {
+
+        public TableFileNotMapped(String path, Throwable cause) {
+            super(path, cause);
+        }
+
+        public TableFileNotMapped(String path, String reason, Throwable cause) {
+            super(path + ": " + reason, cause);
+        }
+
+    }
+
     @SuppressWarnings("serial")
     public static class ParametersNotMappableToType extends RuntimeException {
 
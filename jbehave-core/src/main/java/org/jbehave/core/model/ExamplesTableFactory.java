@@ -14,7 +14,8 @@ import static org.apache.commons.lang.StringUtils.isBlank;
  * inputs:
  * <ul>
  * <li>table text input, i.e. any input that contains a
- * {@link Keywords#examplesTableHeaderSeparator()}</li>
+ * {@link Keywords#examplesTableHeaderSeparator()} or that starts with inlined
+ * properties, e.g. to specify the data file of the table</li>
  * <li>resource path input, the table as text is loaded via the
  * {@link ResourceLoader} (defaulting to {@link LoadFromClasspath}).</li>
  * </ul>
@@ -81,7 +82,7 @@ public class ExamplesTableFactory {
     }
 
     protected boolean isTable(String input) {
-        return input.contains(keywords.examplesTableHeaderSeparator());
+        return input.contains(keywords.examplesTableHeaderSeparator()) || input.trim().startsWith("{");
     }
 
 }
@@ -0,0 +1,125 @@
+package org.jbehave.core.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+
+/**
+ * The lines of a table data file, read via a read-only memory-mapped buffer
+ * so that the file is never held in memory: each line is decoded only when
+ * requested.
+ */
+class MappedTableLines implements TableLines {
+
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    // the characters which must be encoded as single ASCII bytes, for the
+    // lines to be found by byte
+    private static final String ASCII_SEPARATORS = "\r\n|,\"";
+
+    private final String path;
+    private final ByteBuffer buffer;
+    private final Charset charset;
+
+    MappedTableLines(String path, String encoding) {
+        this.path = path;
+        this.charset = asciiCompatible(path, encoding);
+        this.buffer = map(fileOf(path));
+    }
+
+    private static Charset asciiCompatible(String path, String encoding) {
+        Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new ExamplesTable.TableFileNotMapped(path, "unsupported encoding " + encoding, e);
+        }
+        ByteBuffer encoded = charset.encode(ASCII_SEPARATORS);
+        ByteBuffer ascii = Charset.forName("US-ASCII").encode(ASCII_SEPARATORS);
+        if (!encoded.equals(ascii)) {
+            throw new ExamplesTable.TableFileNotMapped(path, "encoding " + encoding
+                    + " does not encode line breaks and separators as ASCII", null);
+        }
+        return charset;
+    }
+
+    private static File fileOf(String path) {
+        File file = new File(path);
+        if (file.isFile()) {
+            return file;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = MappedTableLines.class.getClassLoader();
+        }
+        URL resource = classLoader.getResource(path);
+        if (resource != null && "file".equals(resource.getProtocol())) {
+            try {
+                return new File(resource.toURI());
+            } catch (Exception e) {
+                throw new ExamplesTable.TableFileNotMapped(path, e);
+            }
+        }
+        throw new ExamplesTable.TableFileNotMapped(path, null);
+    }
+
+    private MappedByteBuffer map(File file) {
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            FileChannel channel = randomAccessFile.getChannel();
+            // the mapping remains valid once the channel is closed
+            return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        } catch (Exception e) {
+            throw new ExamplesTable.TableFileNotMapped(path, e);
+        } finally {
+            if (randomAccessFile != null) {
+                try {
+                    randomAccessFile.close();
+                } catch (IOException e) {
+                    // carry on
+                }
+            }
+        }
+    }
+
+    public int length() {
+        return buffer.limit();
+    }
+
+    public int endOfLine(int start) {
+        int length = buffer.limit();
+        for (int position = start; position < length; position++) {
+            if (buffer.get(position) == LINE_SEPARATOR) {
+                return position;
+            }
+        }
+        return length;
+    }
+
+    public String line(int start, int end) {
+        if (end > start && buffer.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        ByteBuffer line = buffer.duplicate();
+        line.limit(end);
+        line.position(start);
+        return charset.decode(line).toString();
+    }
+
+    public boolean inMemory() {
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.jbehave.core.model;
+
+/**
+ * The lines holding the rows of an {@link ExamplesTable}, addressed by the
+ * position at which each line starts.
+ */
+interface TableLines {
+
+    /**
+     * Returns the position following the last line
+     * 
+     * @return The length of the lines
+     */
+    int length();
+
+    /**
+     * Returns the position at which the line starting at the given position
+     * ends, i.e. the position of its line separator or the length of the lines
+     * 
+     * @param start the position at which the line starts
+     * @return The position at which the line ends
+     */
+    int endOfLine(int start);
+
+    /**
+     * Returns the line between the given positions
+     * 
+     * @param start the position at which the line starts
+     * @param end the position at which the line ends
+     * @return The line as text
+     */
+    String line(int start, int end);
+
+    /**
+     * Returns <code>true</code> if the lines are held in memory, so that the
+     * rows may be parsed once and kept in memory
+     * 
+     * @return A boolean flag
+     */
+    boolean inMemory();
+
+}
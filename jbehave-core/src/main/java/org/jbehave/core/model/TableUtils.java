@@ -33,4 +33,54 @@ public class TableUtils {
         return values;
     }
 
+    /**
+     * Parses a row of comma-separated values, keeping the empty values,
+     * including a leading and a trailing one. Values may be enclosed in double
+     * quotes, in which case they may contain commas and double quotes, the
+     * latter escaped by doubling them. Quoted values are never trimmed and
+     * cannot span several lines.
+     * 
+     * @param rowAsString the row to parse
+     * @param trimValues the boolean flag to trim the unquoted values
+     * @return The List of values
+     */
+    public static List<String> parseCsvRow(String rowAsString, boolean trimValues) {
+        List<String> values = new ArrayList<String>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        int length = rowAsString.length();
+        for (int i = 0; i < length; i++) {
+            char c = rowAsString.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < length && rowAsString.charAt(i + 1) == '"') {
+                        value.append(c);
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"' && StringUtils.isBlank(value.toString())) {
+                value.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                values.add(csvValue(value, wasQuoted, trimValues));
+                value.setLength(0);
+                wasQuoted = false;
+            } else if (!wasQuoted) {
+                value.append(c);
+            }
+        }
+        values.add(csvValue(value, wasQuoted, trimValues));
+        return values;
+    }
+
+    private static String csvValue(StringBuilder value, boolean quoted, boolean trimValues) {
+        return quoted || !trimValues ? value.toString() : value.toString().trim();
+    }
+
 }
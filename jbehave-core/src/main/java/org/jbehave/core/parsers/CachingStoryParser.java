@@ -0,0 +1,127 @@
+package org.jbehave.core.parsers;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * Decorator of a {@link StoryParser} which keeps the parsed {@link Story}
+ * models in memory, keyed by story path, so that a story loaded several times
+ * within a run, e.g. as given story of several parent stories, is parsed only
+ * once. A cached story is only reused if the digest of its textual
+ * representation is unchanged, else the story is parsed again. Stories parsed
+ * without a path are never cached. The text of the stories is not retained,
+ * and at most a given number of stories are cached, the least recently parsed
+ * ones being evicted first.
+ * </p>
+ * <p>
+ * The same {@link Story} instance is returned to all the stories that load it,
+ * including stories running concurrently. The story model is not modified
+ * when a story is run and the parts of it parsed lazily, i.e. the scenarios
+ * and the rows of the examples tables, are parsed safely upon first access
+ * from any thread, so a cached story can be run concurrently.
+ * </p>
+ */
+public class CachingStoryParser implements StoryParser {
+
+    public static final int DEFAULT_MAX_CACHED_STORIES = 1000;
+
+    private final StoryParser delegate;
+    private final Map<String, ParsedStory> storiesByPath;
+
+    public CachingStoryParser(StoryParser delegate) {
+        this(delegate, DEFAULT_MAX_CACHED_STORIES);
+    }
+
+    /**
+     * Creates a CachingStoryParser
+     *
+     * @param delegate the StoryParser parsing the stories not cached
+     * @param maxCachedStories the maximum number of stories cached
+     */
+    @SuppressWarnings("serial")
+    public CachingStoryParser(StoryParser delegate, final int maxCachedStories) {
+        this.delegate = delegate;
+        this.storiesByPath = Collections.synchronizedMap(new LinkedHashMap<String, ParsedStory>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedStory> eldest) {
+                return size() > maxCachedStories;
+            }
+        });
+    }
+
+    public Story parseStory(String storyAsText) {
+        return delegate.parseStory(storyAsText);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        if (storyPath == null) {
+            return delegate.parseStory(storyAsText, storyPath);
+        }
+        byte[] digest = digestOf(storyAsText);
+        ParsedStory parsed = storiesByPath.get(storyPath);
+        if (parsed == null || !parsed.isOf(digest)) {
+            parsed = new ParsedStory(digest, delegate.parseStory(storyAsText, storyPath));
+            storiesByPath.put(storyPath, parsed);
+        }
+        return parsed.story;
+    }
+
+    /**
+     * Clears all the parsed stories held in memory
+     */
+    public void clear() {
+        storiesByPath.clear();
+    }
+
+    /**
+     * Returns the number of parsed stories held in memory
+     *
+     * @return The number of cached stories
+     */
+    public int size() {
+        return storiesByPath.size();
+    }
+
+    private byte[] digestOf(String storyAsText) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(storyAsText.getBytes("UTF-8"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new StoryNotDigested(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new StoryNotDigested(e);
+        }
+    }
+
+    private static class ParsedStory {
+
+        private final byte[] digest;
+        private final Story story;
+
+        ParsedStory(byte[] digest, Story story) {
+            this.digest = digest;
+            this.story = story;
+        }
+
+        boolean isOf(byte[] digest) {
+            return Arrays.equals(this.digest, digest);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class StoryNotDigested extends RuntimeException {
+
+        public StoryNotDigested(Throwable cause) {
+            super(cause);
+        }
+
+    }
+
+}
@@ -8,10 +8,11 @@ import org.jbehave.core.steps.StepType;
 
 public class RegexStepMatcher implements StepMatcher {
 
+    private static final String REGEX_METACHARACTERS = "[](){}?*+^$.|";
+
     private final Pattern regexPattern;
 	private final String[] parameterNames;
     private final StepPattern stepPattern;
-    private Matcher matcher;
 
 	public RegexStepMatcher(StepType stepType, String annotatedPattern, Pattern regexPattern, String[] parameterNames) {
         this.regexPattern = regexPattern;
@@ -19,22 +20,14 @@ public class RegexStepMatcher implements StepMatcher {
         this.stepPattern = new StepPattern(stepType, annotatedPattern, regexPattern.pattern());
     }
 	
-	public boolean matches(String stepWithoutStartingWord){
-		matcher(stepWithoutStartingWord);
-		return matcher.matches();
-	}
-
-	public boolean find(String stepWithoutStartingWord){
-		matcher(stepWithoutStartingWord);
-		return matcher.find();
-	}
-	
-	public String parameter(int matchedPosition) {
-		return matcher.group(matchedPosition);
+	public StepMatch matches(String stepWithoutStartingWord){
+		Matcher matcher = regexPattern.matcher(stepWithoutStartingWord);
+		return matcher.matches() ? StepMatch.of(matcher) : StepMatch.NO_MATCH;
 	}
 
-	private void matcher(String patternToMatch){
-		matcher = regexPattern.matcher(patternToMatch);
+	public StepMatch find(String stepWithoutStartingWord){
+		Matcher matcher = regexPattern.matcher(stepWithoutStartingWord);
+		return matcher.find() ? StepMatch.of(matcher) : StepMatch.NO_MATCH;
 	}
 
 	public String[] parameterNames(){
@@ -44,4 +37,83 @@ public class RegexStepMatcher implements StepMatcher {
     public StepPattern pattern() {
         return stepPattern;
     }
+
+    /**
+     * Returns the literal text that any step matched must start with, in
+     * which any whitespace is normalised to a single space. The literal prefix
+     * ends at the first regex construct that is not a literal character or
+     * whitespace.
+     * 
+     * @return The literal prefix, possibly empty, or <code>null</code> if the
+     *         pattern flags or alternations do not allow it to be determined
+     */
+    public String literalPrefix() {
+        if ((regexPattern.flags() & ~(Pattern.DOTALL | Pattern.MULTILINE | Pattern.UNIX_LINES)) != 0) {
+            return null;
+        }
+        String regex = regexPattern.pattern();
+        if (hasAlternation(regex)) {
+            return null;
+        }
+        StringBuilder prefix = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            int next;
+            if (c == '\\') {
+                if (i + 1 == regex.length()) {
+                    break;
+                }
+                char escaped = regex.charAt(i + 1);
+                if (escaped == 's') {
+                    literal = ' ';
+                } else if (!Character.isLetterOrDigit(escaped)) {
+                    literal = escaped;
+                } else {
+                    break;
+                }
+                next = i + 2;
+            } else if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+                break;
+            } else {
+                literal = Character.isWhitespace(c) ? ' ' : c;
+                next = i + 1;
+            }
+            char quantifier = next < regex.length() ? regex.charAt(next) : 0;
+            if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                // optional or repeated literal
+                break;
+            }
+            appendNormalised(prefix, literal);
+            if (quantifier == '+') {
+                if (literal != ' ') {
+                    // the literal may be repeated
+                    break;
+                }
+                next++;
+            }
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasAlternation(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendNormalised(StringBuilder prefix, char literal) {
+        if (literal == ' ' && prefix.length() > 0 && prefix.charAt(prefix.length() - 1) == ' ') {
+            return;
+        }
+        prefix.append(literal);
+    }
 }
@@ -3,6 +3,9 @@ package org.jbehave.core.parsers;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,12 +29,23 @@ import static org.apache.commons.lang.StringUtils.removeStart;
 /**
  * Pattern-based story parser, which uses the keywords provided to parse the
  * textual story into a {@link Story}.
+ * <p>
+ * Scenarios can be parsed lazily: only their title and meta are then parsed
+ * with the story, their given stories, examples table and steps being parsed
+ * upon first access, so that the scenarios excluded by a meta filter are never
+ * parsed in full. As the examples table is not parsed, the meta of a lazily
+ * parsed scenario, as returned by {@link Scenario#asMeta(String)}, holds the
+ * examples table as found in the textual story.
+ * </p>
  */
 public class RegexStoryParser implements StoryParser {
 
     private static final String NONE = "";
+    private static final Map<Keywords, KeywordPatterns> PATTERNS_BY_KEYWORDS = new WeakHashMap<Keywords, KeywordPatterns>();
     private final Keywords keywords;
     private final ExamplesTableFactory tableFactory;
+    private final KeywordPatterns patterns;
+    private final boolean lazyScenarios;
 
     public RegexStoryParser() {
         this(new LocalizedKeywords());
@@ -46,8 +60,32 @@ public class RegexStoryParser implements StoryParser {
     }
 
     public RegexStoryParser(Keywords keywords, ExamplesTableFactory tableFactory) {
+        this(keywords, tableFactory, false);
+    }
+
+    public RegexStoryParser(Keywords keywords, ExamplesTableFactory tableFactory, boolean lazyScenarios) {
         this.keywords = keywords;
         this.tableFactory = tableFactory;
+        this.patterns = patternsFor(keywords);
+        this.lazyScenarios = lazyScenarios;
+    }
+
+    /**
+     * Returns the patterns derived from the keywords, compiling them only once
+     * for each Keywords instance
+     * 
+     * @param keywords the Keywords
+     * @return The KeywordPatterns
+     */
+    private static KeywordPatterns patternsFor(Keywords keywords) {
+        synchronized (PATTERNS_BY_KEYWORDS) {
+            KeywordPatterns patterns = PATTERNS_BY_KEYWORDS.get(keywords);
+            if (patterns == null) {
+                patterns = new KeywordPatterns(keywords);
+                PATTERNS_BY_KEYWORDS.put(keywords, patterns);
+            }
+            return patterns;
+        }
     }
 
     public Story parseStory(String storyAsText) {
@@ -69,7 +107,7 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private Description parseDescriptionFrom(String storyAsText) {
-        Matcher findingDescription = patternToPullDescriptionIntoGroupOne().matcher(storyAsText);
+        Matcher findingDescription = patterns.description.matcher(storyAsText);
         if (findingDescription.matches()) {
             return new Description(findingDescription.group(1).trim());
         }
@@ -77,7 +115,7 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private Meta parseStoryMetaFrom(String storyAsText) {
-        Matcher findingMeta = patternToPullStoryMetaIntoGroupOne().matcher(preScenarioText(storyAsText));
+        Matcher findingMeta = patterns.storyMeta.matcher(preScenarioText(storyAsText));
         if (findingMeta.matches()) {
             String meta = findingMeta.group(1).trim();
             return Meta.createMeta(meta, keywords);
@@ -86,12 +124,12 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String preScenarioText(String storyAsText) {
-        String[] split = storyAsText.split(keywords.scenario());
+        String[] split = patterns.scenario.split(storyAsText);
         return split.length > 0 ? split[0] : storyAsText;
     }
 
     private Narrative parseNarrativeFrom(String storyAsText) {
-        Matcher findingNarrative = patternToPullNarrativeIntoGroupOne().matcher(storyAsText);
+        Matcher findingNarrative = patterns.narrative.matcher(storyAsText);
         if (findingNarrative.matches()) {
             String narrative = findingNarrative.group(1).trim();
             return createNarrative(narrative);
@@ -100,14 +138,14 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private Narrative createNarrative(String narrative) {
-        Matcher findingElements = patternToPullNarrativeElementsIntoGroups().matcher(narrative);
+        Matcher findingElements = patterns.narrativeElements.matcher(narrative);
         if (findingElements.matches()) {
             String inOrderTo = findingElements.group(1).trim();
             String asA = findingElements.group(2).trim();
             String iWantTo = findingElements.group(3).trim();
             return new Narrative(inOrderTo, asA, iWantTo);
         }
-        Matcher findingAlternativeElements = patternToPullAlternativeNarrativeElementsIntoGroups().matcher(narrative);
+        Matcher findingAlternativeElements = patterns.alternativeNarrativeElements.matcher(narrative);
         if (findingAlternativeElements.matches()) {            
             String asA = findingAlternativeElements.group(1).trim();
             String iWantTo = findingAlternativeElements.group(2).trim();
@@ -124,7 +162,7 @@ public class RegexStoryParser implements StoryParser {
         if (StringUtils.contains(storyAsText, scenarioKeyword)) {
             beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
         }
-        Matcher findingGivenStories = patternToPullStoryGivenStoriesIntoGroupOne().matcher(beforeScenario);
+        Matcher findingGivenStories = patterns.storyGivenStories.matcher(beforeScenario);
         String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
         return new GivenStories(givenStories);
     }
@@ -136,21 +174,21 @@ public class RegexStoryParser implements StoryParser {
         if (StringUtils.contains(storyAsText, scenarioKeyword)) {
             beforeScenario = StringUtils.substringBefore(storyAsText, scenarioKeyword);
         }
-        Matcher findingLifecycle = patternToPullLifecycleIntoGroupOne().matcher(beforeScenario);
+        Matcher findingLifecycle = patterns.lifecycle.matcher(beforeScenario);
         String lifecycle = findingLifecycle.find() ? findingLifecycle.group(1).trim() : NONE;
-        Matcher findingBeforeAndAfter = compile(".*" + keywords.before() + "(.*)\\s*" + keywords.after() + "(.*)\\s*" , DOTALL).matcher(lifecycle);
+        Matcher findingBeforeAndAfter = patterns.beforeAndAfter.matcher(lifecycle);
         if ( findingBeforeAndAfter.matches() ){
             List<String> beforeSteps = findSteps(startingWithNL(findingBeforeAndAfter.group(1).trim()));
             List<String> afterSteps = findSteps(startingWithNL(findingBeforeAndAfter.group(2).trim()));
             return new Lifecycle(beforeSteps, afterSteps);
         }
-        Matcher findingBefore = compile(".*" + keywords.before() + "(.*)\\s*" , DOTALL).matcher(lifecycle);
+        Matcher findingBefore = patterns.before.matcher(lifecycle);
         if ( findingBefore.matches() ){
             List<String> beforeSteps = findSteps(startingWithNL(findingBefore.group(1).trim()));
             List<String> afterSteps = new ArrayList<String>();
             return new Lifecycle(beforeSteps, afterSteps);
         }
-        Matcher findingAfter = compile(".*" + keywords.after() + "(.*)\\s*" , DOTALL).matcher(lifecycle);
+        Matcher findingAfter = patterns.after.matcher(lifecycle);
         if ( findingAfter.matches() ){
             List<String> beforeSteps = new ArrayList<String>();
             List<String> afterSteps = findSteps(startingWithNL(findingAfter.group(1).trim()));
@@ -176,7 +214,7 @@ public class RegexStoryParser implements StoryParser {
             storyAsText = StringUtils.substringAfter(storyAsText, scenarioKeyword);
         }
 
-        for (String scenarioAsText : storyAsText.split(scenarioKeyword)) {
+        for (String scenarioAsText : patterns.scenario.split(storyAsText)) {
             if (scenarioAsText.trim().length() > 0) {
                 scenarios.add(scenarioKeyword + "\n" + scenarioAsText);
             }
@@ -191,6 +229,13 @@ public class RegexStoryParser implements StoryParser {
         String scenarioWithoutTitle = removeStart(scenarioWithoutKeyword, title);
         scenarioWithoutTitle = startingWithNL(scenarioWithoutTitle);
         Meta meta = findScenarioMeta(scenarioWithoutTitle);
+        if (lazyScenarios) {
+            return new LazilyParsedScenario(title, meta, scenarioWithoutTitle);
+        }
+        return parseScenario(title, meta, scenarioWithoutTitle);
+    }
+
+    private Scenario parseScenario(String title, Meta meta, String scenarioWithoutTitle) {
         ExamplesTable examplesTable = findExamplesTable(scenarioWithoutTitle);
         GivenStories givenStories = findScenarioGivenStories(scenarioWithoutTitle);
         if (givenStories.requireParameters()) {
@@ -208,12 +253,12 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private String findScenarioTitle(String scenarioAsText) {
-        Matcher findingTitle = patternToPullScenarioTitleIntoGroupOne().matcher(scenarioAsText);
+        Matcher findingTitle = patterns.scenarioTitle.matcher(scenarioAsText);
         return findingTitle.find() ? findingTitle.group(1).trim() : NONE;
     }
 
     private Meta findScenarioMeta(String scenarioAsText) {
-        Matcher findingMeta = patternToPullScenarioMetaIntoGroupOne().matcher(scenarioAsText);
+        Matcher findingMeta = patterns.scenarioMeta.matcher(scenarioAsText);
         if (findingMeta.matches()) {
             String meta = findingMeta.group(1).trim();
             return Meta.createMeta(meta, keywords);
@@ -222,19 +267,25 @@ public class RegexStoryParser implements StoryParser {
     }
 
     private ExamplesTable findExamplesTable(String scenarioAsText) {
-        Matcher findingTable = patternToPullExamplesTableIntoGroupOne().matcher(scenarioAsText);
-        String tableInput = findingTable.find() ? findingTable.group(1).trim() : NONE;
-        return tableFactory.createExamplesTable(tableInput);
+        return tableFactory.createExamplesTable(findExamplesTableAsString(scenarioAsText));
+    }
+
+    private String findExamplesTableAsString(String scenarioAsText) {
+        Matcher findingTable = patterns.examplesTable.matcher(scenarioAsText);
+        return findingTable.find() ? findingTable.group(1).trim() : NONE;
     }
 
     private GivenStories findScenarioGivenStories(String scenarioAsText) {
-        Matcher findingGivenStories = patternToPullScenarioGivenStoriesIntoGroupOne().matcher(scenarioAsText);
-        String givenStories = findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
-        return new GivenStories(givenStories);
+        return new GivenStories(findScenarioGivenStoriesAsString(scenarioAsText));
+    }
+
+    private String findScenarioGivenStoriesAsString(String scenarioAsText) {
+        Matcher findingGivenStories = patterns.scenarioGivenStories.matcher(scenarioAsText);
+        return findingGivenStories.find() ? findingGivenStories.group(1).trim() : NONE;
     }
 
     private List<String> findSteps(String scenarioAsText) {
-        Matcher matcher = patternToPullStepsIntoGroupOne().matcher(scenarioAsText);
+        Matcher matcher = patterns.steps.matcher(scenarioAsText);
         List<String> steps = new ArrayList<String>();
         int startAt = 0;
         while (matcher.find(startAt)) {
@@ -244,75 +295,113 @@ public class RegexStoryParser implements StoryParser {
         return steps;
     }
 
-    // Regex Patterns
+    /**
+     * A scenario whose given stories, examples table and steps are parsed upon
+     * first access
+     */
+    private class LazilyParsedScenario extends Scenario {
 
-    private Pattern patternToPullDescriptionIntoGroupOne() {
-        String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords.meta(), keywords.narrative(), keywords.lifecycle(), keywords.scenario());
-        return compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
-    }
+        private final String scenarioWithoutTitle;
+        private Scenario parsed;
 
-    private Pattern patternToPullStoryMetaIntoGroupOne() {
-        String narrativeOrGivenStories = concatenateWithOr(keywords.narrative(), keywords.givenStories());
-        return compile(".*" + keywords.meta() + "(.*?)\\s*(\\Z|" + narrativeOrGivenStories + ").*", DOTALL);
-    }
+        LazilyParsedScenario(String title, Meta meta, String scenarioWithoutTitle) {
+            super(title, meta);
+            this.scenarioWithoutTitle = scenarioWithoutTitle;
+        }
 
-    private Pattern patternToPullNarrativeIntoGroupOne() {
-        String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords.givenStories(), keywords.lifecycle(), keywords.scenario());
-        return compile(".*" + keywords.narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*", DOTALL);
-    }
+        private synchronized Scenario parsed() {
+            if (parsed == null) {
+                parsed = parseScenario(getTitle(), getMeta(), scenarioWithoutTitle);
+            }
+            return parsed;
+        }
 
-    private Pattern patternToPullNarrativeElementsIntoGroups() {
-        return compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
-                + "(.*)", DOTALL);
-    }
+        @Override
+        public GivenStories getGivenStories() {
+            return parsed().getGivenStories();
+        }
 
-    private Pattern patternToPullAlternativeNarrativeElementsIntoGroups() {
-        return compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo() + "(.*)\\s*" + keywords.soThat()
-                + "(.*)", DOTALL);
-    }
-    
-    private Pattern patternToPullStoryGivenStoriesIntoGroupOne() {
-        String lifecycleOrScenario = concatenateWithOr(keywords.lifecycle(), keywords.scenario());
-        return compile(".*" + keywords.givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*", DOTALL);
-    }
-    
-    private Pattern patternToPullLifecycleIntoGroupOne() {
-        return compile(".*" + keywords.lifecycle() + "\\s*(.*)", DOTALL);
-    }
-    
-    private Pattern patternToPullScenarioTitleIntoGroupOne() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile(keywords.scenario() + "((.)*?)\\s*(" + keywords.meta() + "|" + startingWords + ").*", DOTALL);
-    }
+        @Override
+        public ExamplesTable getExamplesTable() {
+            return parsed().getExamplesTable();
+        }
 
-    private Pattern patternToPullScenarioMetaIntoGroupOne() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile(".*" + keywords.meta() + "(.*?)\\s*(" + keywords.givenStories() + "|" + startingWords + ").*",
-                DOTALL);
-    }
+        @Override
+        public List<String> getSteps() {
+            return parsed().getSteps();
+        }
 
-    private Pattern patternToPullScenarioGivenStoriesIntoGroupOne() {
-        String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        return compile("\\n" + keywords.givenStories() + "((.|\\n)*?)\\s*(" + startingWords + ").*", DOTALL);
-    }
+        @Override
+        public Meta asMeta(String prefix) {
+            Properties p = new Properties();
+            p.setProperty(prefix + "title", getTitle());
+            p.setProperty(prefix + "givenStories", findScenarioGivenStoriesAsString(scenarioWithoutTitle));
+            p.setProperty(prefix + "examplesTable", findExamplesTableAsString(scenarioWithoutTitle));
+            return new Meta(p);
+        }
 
-    private Pattern patternToPullStepsIntoGroupOne() {
-        String initialStartingWords = concatenateWithOr("\\n", "", keywords.startingWords());
-        String followingStartingWords = concatenateWithOr("\\n", "\\s", keywords.startingWords());
-        return compile(
-                "((" + initialStartingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
-                        + keywords.examplesTable() + ")", DOTALL);
     }
 
-    private Pattern patternToPullExamplesTableIntoGroupOne() {
-        return compile("\\n" + keywords.examplesTable() + "\\s*(.*)", DOTALL);
+    /**
+     * The patterns derived from the keywords, compiled once per
+     * {@link Keywords} instance and shared by all parsers using them.
+     */
+    private static class KeywordPatterns {
+
+        private final Pattern scenario;
+        private final Pattern beforeAndAfter;
+        private final Pattern before;
+        private final Pattern after;
+        private final Pattern description;
+        private final Pattern storyMeta;
+        private final Pattern narrative;
+        private final Pattern narrativeElements;
+        private final Pattern alternativeNarrativeElements;
+        private final Pattern storyGivenStories;
+        private final Pattern lifecycle;
+        private final Pattern scenarioTitle;
+        private final Pattern scenarioMeta;
+        private final Pattern scenarioGivenStories;
+        private final Pattern steps;
+        private final Pattern examplesTable;
+
+        private KeywordPatterns(Keywords keywords) {
+            scenario = compile(keywords.scenario());
+            beforeAndAfter = compile(".*" + keywords.before() + "(.*)\\s*" + keywords.after() + "(.*)\\s*", DOTALL);
+            before = compile(".*" + keywords.before() + "(.*)\\s*", DOTALL);
+            after = compile(".*" + keywords.after() + "(.*)\\s*", DOTALL);
+            String metaOrNarrativeOrLifecycleOrScenario = concatenateWithOr(keywords.meta(), keywords.narrative(), keywords.lifecycle(), keywords.scenario());
+            description = compile("(.*?)(" + metaOrNarrativeOrLifecycleOrScenario + ").*", DOTALL);
+            String narrativeOrGivenStories = concatenateWithOr(keywords.narrative(), keywords.givenStories());
+            storyMeta = compile(".*" + keywords.meta() + "(.*?)\\s*(\\Z|" + narrativeOrGivenStories + ").*", DOTALL);
+            String givenStoriesOrLifecycleOrScenario = concatenateWithOr(keywords.givenStories(), keywords.lifecycle(), keywords.scenario());
+            narrative = compile(".*" + keywords.narrative() + "(.*?)\\s*(" + givenStoriesOrLifecycleOrScenario + ").*", DOTALL);
+            narrativeElements = compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
+                    + "(.*)", DOTALL);
+            alternativeNarrativeElements = compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo() + "(.*)\\s*" + keywords.soThat()
+                    + "(.*)", DOTALL);
+            String lifecycleOrScenario = concatenateWithOr(keywords.lifecycle(), keywords.scenario());
+            storyGivenStories = compile(".*" + keywords.givenStories() + "(.*?)\\s*(\\Z|" + lifecycleOrScenario + ").*", DOTALL);
+            lifecycle = compile(".*" + keywords.lifecycle() + "\\s*(.*)", DOTALL);
+            String startingWords = concatenateWithOr("\\n", "", keywords.startingWords());
+            scenarioTitle = compile(keywords.scenario() + "((.)*?)\\s*(" + keywords.meta() + "|" + startingWords + ").*", DOTALL);
+            scenarioMeta = compile(".*" + keywords.meta() + "(.*?)\\s*(" + keywords.givenStories() + "|" + startingWords + ").*",
+                    DOTALL);
+            scenarioGivenStories = compile("\\n" + keywords.givenStories() + "((.|\\n)*?)\\s*(" + startingWords + ").*", DOTALL);
+            String followingStartingWords = concatenateWithOr("\\n", "\\s", keywords.startingWords());
+            steps = compile(
+                    "((" + startingWords + ")\\s(.)*?)\\s*(\\Z|" + followingStartingWords + "|\\n"
+                            + keywords.examplesTable() + ")", DOTALL);
+            examplesTable = compile("\\n" + keywords.examplesTable() + "\\s*(.*)", DOTALL);
+        }
+
     }
 
-    private String concatenateWithOr(String... keywords) {
+    private static String concatenateWithOr(String... keywords) {
         return concatenateWithOr(null, null, keywords);
     }
 
-    private String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
+    private static String concatenateWithOr(String beforeKeyword, String afterKeyword, String[] keywords) {
         StringBuilder builder = new StringBuilder();
         String before = beforeKeyword != null ? beforeKeyword : NONE;
         String after = afterKeyword != null ? afterKeyword : NONE;
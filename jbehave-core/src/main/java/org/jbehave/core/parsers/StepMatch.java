@@ -0,0 +1,71 @@
+package org.jbehave.core.parsers;
+
+import java.util.regex.MatchResult;
+
+/**
+ * An immutable result of matching a step via a {@link StepMatcher}, holding
+ * the values of the parameters matched. As it holds no reference to the
+ * matcher that produced it, it can be safely used by any thread.
+ */
+public class StepMatch {
+
+    /**
+     * The result of a step that does not match
+     */
+    public static final StepMatch NO_MATCH = new StepMatch(false, new String[0]);
+
+    private final boolean matched;
+    private final String[] groups;
+
+    /**
+     * Creates a successful step match from the given groups, in which the
+     * group at position 0 is the whole matched step.
+     *
+     * @param groups the matched groups
+     */
+    public StepMatch(String... groups) {
+        this(true, groups);
+    }
+
+    private StepMatch(boolean matched, String[] groups) {
+        this.matched = matched;
+        this.groups = groups;
+    }
+
+    /**
+     * Creates a step match from a regex match result
+     *
+     * @param result the MatchResult
+     * @return The StepMatch holding the groups of the result
+     */
+    public static StepMatch of(MatchResult result) {
+        String[] groups = new String[result.groupCount() + 1];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = result.group(i);
+        }
+        return new StepMatch(groups);
+    }
+
+    public boolean matched() {
+        return matched;
+    }
+
+    public int parameterCount() {
+        return groups.length == 0 ? 0 : groups.length - 1;
+    }
+
+    /**
+     * Returns the value of a matched parameter
+     *
+     * @param matchedPosition the position of the parameter, starting from 1
+     * @return The parameter value
+     * @throws IllegalStateException if the step did not match
+     */
+    public String parameter(int matchedPosition) {
+        if (!matched) {
+            throw new IllegalStateException("No match found");
+        }
+        return groups[matchedPosition];
+    }
+
+}
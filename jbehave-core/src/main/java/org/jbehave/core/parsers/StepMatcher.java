@@ -4,18 +4,18 @@ import org.jbehave.core.model.StepPattern;
 
 /**
  * A step matcher is responsible for matching steps against a given step pattern
- * and extracting the parameters for the step
+ * and extracting the parameters for the step. Matchers hold no state between
+ * calls, the parameters being provided by the {@link StepMatch} returned, so
+ * that the same matcher can be used concurrently.
  */
 public interface StepMatcher {
 
-    boolean matches(String stepWithoutStartingWord);
+    StepMatch matches(String stepWithoutStartingWord);
 
-    boolean find(String stepWithoutStartingWord);
-
-    String parameter(int matchedPosition);
+    StepMatch find(String stepWithoutStartingWord);
 
     String[] parameterNames();
 
     StepPattern pattern();
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,378 @@
+package org.jbehave.core.parsers;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+
+/**
+ * <p>
+ * Line-oriented story parser, which uses the keywords provided to parse the
+ * textual story into a {@link Story} in a single pass over its lines. Each line
+ * is tokenized by the keyword it starts with, if any, which determines the
+ * element of the story the line belongs to. Lines not starting with a keyword
+ * continue the element of the preceding line. Parsing time is thus linear in
+ * the size of the story, however large its scenarios and tables.
+ * </p>
+ * <p>
+ * It builds the same model as the {@link RegexStoryParser}, with the
+ * difference that keywords are only recognised at the start of a line: steps
+ * must start with a starting word at the beginning of a line, while the other
+ * keywords may be preceded by whitespace.
+ * </p>
+ */
+public class TokenizingStoryParser implements StoryParser {
+
+    private static final String NL = "\n";
+    private final Keywords keywords;
+    private final ExamplesTableFactory tableFactory;
+    private final String[] startingWords;
+
+    public TokenizingStoryParser() {
+        this(new LocalizedKeywords());
+    }
+
+    public TokenizingStoryParser(Keywords keywords) {
+        this(keywords, new ExamplesTableFactory());
+    }
+
+    public TokenizingStoryParser(ExamplesTableFactory tableFactory) {
+        this(new LocalizedKeywords(), tableFactory);
+    }
+
+    public TokenizingStoryParser(Keywords keywords, ExamplesTableFactory tableFactory) {
+        this.keywords = keywords;
+        this.tableFactory = tableFactory;
+        this.startingWords = keywords.startingWords();
+    }
+
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        String[] lines = storyAsText.split(NL, -1);
+        List<Integer> scenarioStarts = new ArrayList<Integer>();
+        for (int i = 0; i < lines.length; i++) {
+            if (startsWithKeyword(lines[i], keywords.scenario())) {
+                scenarioStarts.add(i);
+            }
+        }
+        boolean explicitScenarios = !scenarioStarts.isEmpty();
+        int preambleEnd = explicitScenarios ? scenarioStarts.get(0) : lines.length;
+        Preamble preamble = new Preamble(explicitScenarios);
+        for (int i = 0; i < preambleEnd; i++) {
+            preamble.add(lines[i]);
+        }
+        List<Scenario> scenarios = new ArrayList<Scenario>();
+        if (explicitScenarios) {
+            for (int s = 0; s < scenarioStarts.size(); s++) {
+                int start = scenarioStarts.get(s);
+                int end = (s + 1 < scenarioStarts.size() ? scenarioStarts.get(s + 1) : lines.length);
+                ScenarioBuilder scenario = new ScenarioBuilder(true);
+                scenario.add(withoutKeyword(lines[start], keywords.scenario()));
+                for (int i = start + 1; i < end; i++) {
+                    scenario.add(lines[i]);
+                }
+                if (!scenario.isBlank()) {
+                    scenarios.add(scenario.build());
+                }
+            }
+        } else if (storyAsText.trim().length() > 0) {
+            ScenarioBuilder scenario = new ScenarioBuilder(false);
+            for (String line : lines) {
+                scenario.add(line);
+            }
+            scenarios.add(scenario.build());
+        }
+        Story story = new Story(storyPath, preamble.description(), preamble.meta(), preamble.narrative(),
+                preamble.givenStories(), preamble.lifecycle(), scenarios);
+        if (storyPath != null) {
+            story.namedAs(new File(storyPath).getName());
+        }
+        return story;
+    }
+
+    private boolean startsWithKeyword(String line, String keyword) {
+        return line.startsWith(keyword, indentationOf(line));
+    }
+
+    private String withoutKeyword(String line, String keyword) {
+        return line.substring(indentationOf(line) + keyword.length());
+    }
+
+    private int indentationOf(String line) {
+        int indentation = 0;
+        while (indentation < line.length() && Character.isWhitespace(line.charAt(indentation))) {
+            indentation++;
+        }
+        return indentation;
+    }
+
+    private boolean startsWithStartingWord(String line) {
+        for (String startingWord : startingWords) {
+            if (line.startsWith(startingWord)
+                    && (line.length() == startingWord.length() || Character.isWhitespace(line
+                            .charAt(startingWord.length())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stepOf(StringBuilder step) {
+        int end = step.length();
+        while (end > 0 && Character.isWhitespace(step.charAt(end - 1))) {
+            end--;
+        }
+        return step.substring(0, end);
+    }
+
+    private static void appendLine(StringBuilder builder, String line) {
+        if (builder.length() > 0) {
+            builder.append(NL);
+        }
+        builder.append(line);
+    }
+
+    private enum PreambleElement {
+        DESCRIPTION, META, NARRATIVE, GIVEN_STORIES, LIFECYCLE, NONE
+    }
+
+    private enum LifecycleElement {
+        BEFORE, AFTER, NONE
+    }
+
+    /**
+     * Collects the elements of the story preceding its first scenario
+     */
+    private class Preamble {
+
+        private final boolean explicitScenarios;
+        private final StringBuilder description = new StringBuilder();
+        private final StringBuilder meta = new StringBuilder();
+        private final StringBuilder narrative = new StringBuilder();
+        private final StringBuilder givenStories = new StringBuilder();
+        private final List<StringBuilder> beforeSteps = new ArrayList<StringBuilder>();
+        private final List<StringBuilder> afterSteps = new ArrayList<StringBuilder>();
+        private PreambleElement element = PreambleElement.DESCRIPTION;
+        private LifecycleElement lifecycleElement = LifecycleElement.NONE;
+        private boolean beforeFound;
+        private boolean afterFound;
+        private boolean keywordFound;
+
+        Preamble(boolean explicitScenarios) {
+            this.explicitScenarios = explicitScenarios;
+            this.keywordFound = explicitScenarios;
+        }
+
+        void add(String line) {
+            if (startsWithKeyword(line, keywords.meta())) {
+                start(PreambleElement.META, meta, withoutKeyword(line, keywords.meta()));
+            } else if (startsWithKeyword(line, keywords.narrative())) {
+                start(PreambleElement.NARRATIVE, narrative, withoutKeyword(line, keywords.narrative()));
+            } else if (startsWithKeyword(line, keywords.givenStories())) {
+                start(PreambleElement.GIVEN_STORIES, givenStories, withoutKeyword(line, keywords.givenStories()));
+            } else if (startsWithKeyword(line, keywords.lifecycle())) {
+                keywordFound = true;
+                element = PreambleElement.LIFECYCLE;
+            } else if (element == PreambleElement.LIFECYCLE) {
+                addToLifecycle(line);
+            } else if (startsWithStartingWord(line)) {
+                element = PreambleElement.NONE;
+            } else {
+                StringBuilder current = current();
+                if (current != null) {
+                    appendLine(current, line);
+                }
+            }
+        }
+
+        private void start(PreambleElement element, StringBuilder builder, String text) {
+            this.keywordFound = true;
+            this.element = element;
+            appendLine(builder, text);
+        }
+
+        private StringBuilder current() {
+            switch (element) {
+            case DESCRIPTION:
+                return description;
+            case META:
+                return meta;
+            case NARRATIVE:
+                return narrative;
+            case GIVEN_STORIES:
+                return givenStories;
+            default:
+                return null;
+            }
+        }
+
+        private void addToLifecycle(String line) {
+            if (startsWithKeyword(line, keywords.before())) {
+                beforeFound = true;
+                lifecycleElement = LifecycleElement.BEFORE;
+            } else if (startsWithKeyword(line, keywords.after())) {
+                afterFound = true;
+                lifecycleElement = LifecycleElement.AFTER;
+            } else if (lifecycleElement != LifecycleElement.NONE) {
+                List<StringBuilder> steps = (lifecycleElement == LifecycleElement.BEFORE ? beforeSteps : afterSteps);
+                if (startsWithStartingWord(line)) {
+                    steps.add(new StringBuilder(line));
+                } else if (!steps.isEmpty()) {
+                    appendLine(steps.get(steps.size() - 1), line);
+                }
+            }
+        }
+
+        Description description() {
+            if (!keywordFound) {
+                return Description.EMPTY;
+            }
+            return new Description(description.toString().trim());
+        }
+
+        Meta meta() {
+            String text = meta.toString().trim();
+            return text.length() > 0 ? Meta.createMeta(text, keywords) : Meta.EMPTY;
+        }
+
+        Narrative narrative() {
+            String text = narrative.toString();
+            int inOrderTo = text.indexOf(keywords.inOrderTo());
+            int asA = text.indexOf(keywords.asA(), Math.max(inOrderTo, 0));
+            int iWantTo = (asA != -1 ? text.indexOf(keywords.iWantTo(), asA) : -1);
+            if (inOrderTo != -1 && asA != -1 && iWantTo != -1) {
+                return new Narrative(between(text, inOrderTo, keywords.inOrderTo(), asA), between(text, asA,
+                        keywords.asA(), iWantTo), between(text, iWantTo, keywords.iWantTo(), text.length()));
+            }
+            asA = text.indexOf(keywords.asA());
+            iWantTo = (asA != -1 ? text.indexOf(keywords.iWantTo(), asA) : -1);
+            int soThat = (iWantTo != -1 ? text.indexOf(keywords.soThat(), iWantTo) : -1);
+            if (asA != -1 && iWantTo != -1 && soThat != -1) {
+                return new Narrative("", between(text, asA, keywords.asA(), iWantTo), between(text, iWantTo,
+                        keywords.iWantTo(), soThat), between(text, soThat, keywords.soThat(), text.length()));
+            }
+            return Narrative.EMPTY;
+        }
+
+        private String between(String text, int start, String keyword, int end) {
+            return text.substring(start + keyword.length(), end).trim();
+        }
+
+        GivenStories givenStories() {
+            if (!explicitScenarios) {
+                return GivenStories.EMPTY;
+            }
+            return new GivenStories(givenStories.toString().trim());
+        }
+
+        Lifecycle lifecycle() {
+            if (!explicitScenarios || !(beforeFound || afterFound)) {
+                return Lifecycle.EMPTY;
+            }
+            return new Lifecycle(steps(beforeSteps), steps(afterSteps));
+        }
+
+        private List<String> steps(List<StringBuilder> builders) {
+            List<String> steps = new ArrayList<String>();
+            for (StringBuilder builder : builders) {
+                steps.add(stepOf(builder));
+            }
+            return steps;
+        }
+    }
+
+    private enum ScenarioElement {
+        TITLE, META, GIVEN_STORIES, STEPS, EXAMPLES, NONE
+    }
+
+    /**
+     * Collects the elements of a scenario, either following its scenario
+     * keyword or, if the story has no scenario keyword, the whole story.
+     */
+    private class ScenarioBuilder {
+
+        private final StringBuilder title = new StringBuilder();
+        private final StringBuilder meta = new StringBuilder();
+        private final StringBuilder givenStories = new StringBuilder();
+        private final StringBuilder examplesTable = new StringBuilder();
+        private final List<StringBuilder> steps = new ArrayList<StringBuilder>();
+        private ScenarioElement element;
+        private boolean blank = true;
+
+        ScenarioBuilder(boolean titled) {
+            this.element = (titled ? ScenarioElement.TITLE : ScenarioElement.NONE);
+        }
+
+        void add(String line) {
+            if (blank && line.trim().length() > 0) {
+                blank = false;
+            }
+            if (element == ScenarioElement.EXAMPLES) {
+                appendLine(examplesTable, line);
+            } else if (startsWithStartingWord(line)) {
+                element = ScenarioElement.STEPS;
+                steps.add(new StringBuilder(line));
+            } else if (startsWithKeyword(line, keywords.examplesTable())) {
+                element = ScenarioElement.EXAMPLES;
+                appendLine(examplesTable, withoutKeyword(line, keywords.examplesTable()));
+            } else if (element != ScenarioElement.STEPS && startsWithKeyword(line, keywords.meta())) {
+                element = ScenarioElement.META;
+                appendLine(meta, withoutKeyword(line, keywords.meta()));
+            } else if (element != ScenarioElement.STEPS && startsWithKeyword(line, keywords.givenStories())) {
+                element = ScenarioElement.GIVEN_STORIES;
+                appendLine(givenStories, withoutKeyword(line, keywords.givenStories()));
+            } else {
+                switch (element) {
+                case TITLE:
+                    appendLine(title, line);
+                    break;
+                case META:
+                    appendLine(meta, line);
+                    break;
+                case GIVEN_STORIES:
+                    appendLine(givenStories, line);
+                    break;
+                case STEPS:
+                    steps.get(steps.size() - 1).append(NL).append(line);
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+
+        boolean isBlank() {
+            return blank;
+        }
+
+        Scenario build() {
+            String metaAsText = meta.toString().trim();
+            Meta scenarioMeta = (metaAsText.length() > 0 ? Meta.createMeta(metaAsText, keywords) : Meta.EMPTY);
+            ExamplesTable table = tableFactory.createExamplesTable(examplesTable.toString().trim());
+            GivenStories scenarioGivenStories = new GivenStories(givenStories.toString().trim());
+            if (scenarioGivenStories.requireParameters()) {
+                scenarioGivenStories.useExamplesTable(table);
+            }
+            List<String> scenarioSteps = new ArrayList<String>();
+            for (StringBuilder step : steps) {
+                scenarioSteps.add(stepOf(step));
+            }
+            return new Scenario(title.toString().trim(), scenarioMeta, scenarioGivenStories, table, scenarioSteps);
+        }
+    }
+
+}
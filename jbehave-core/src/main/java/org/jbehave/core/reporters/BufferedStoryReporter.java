@@ -0,0 +1,59 @@
+package org.jbehave.core.reporters;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jbehave.core.reporters.ConcurrentStoryReporter.DelayedMethod;
+
+/**
+ * Buffers the reporting events of a part of a story which is run concurrently
+ * with the other parts of the same story, e.g. a scenario, so that the events
+ * can be replayed to the story reporter in the original order of the parts.
+ * The buffer is meant to be written by a single thread and replayed once the
+ * writing thread is done.
+ */
+public class BufferedStoryReporter {
+
+    private final List<DelayedMethod> delayedMethods = new ArrayList<DelayedMethod>();
+    private final StoryReporter reporter = (StoryReporter) Proxy.newProxyInstance(
+            StoryReporter.class.getClassLoader(), new Class<?>[] { StoryReporter.class }, new InvocationHandler() {
+
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    if (method.getDeclaringClass().equals(Object.class)) {
+                        return method.invoke(BufferedStoryReporter.this, args);
+                    }
+                    delayedMethods.add(new DelayedMethod(method, args != null ? args : new Object[0]));
+                    return null;
+                }
+
+            });
+
+    /**
+     * Returns the reporter buffering the events
+     *
+     * @return The StoryReporter
+     */
+    public StoryReporter reporter() {
+        return reporter;
+    }
+
+    /**
+     * Replays the buffered events, in the order in which they were reported
+     *
+     * @param delegate the StoryReporter to replay the events to
+     */
+    public void replayTo(StoryReporter delegate) {
+        for (DelayedMethod delayed : delayedMethods) {
+            delayed.invoke(delegate);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + delayedMethods.size() + " events]";
+    }
+
+}
@@ -333,7 +333,6 @@ public abstract class PrintStreamOutput implements StoryReporter {
         OutputStream formatted = new ByteArrayOutputStream();
         PrintStream out = new PrintStream(formatted);
         out.print(format("examplesTableStart", "\n"));
-        List<Map<String, String>> rows = table.getRows();
         List<String> headers = table.getHeaders();
         out.print(format("examplesTableHeadStart", "|"));
         for (String header : headers) {
@@ -341,7 +340,7 @@ public abstract class PrintStreamOutput implements StoryReporter {
         }
         out.print(format("examplesTableHeadEnd", "\n"));
         out.print(format("examplesTableBodyStart", EMPTY));
-        for (Map<String, String> row : rows) {
+        for (Map<String, String> row : table.iterateRows()) {
             out.print(format("examplesTableRowStart", "|"));
             for (String header : headers) {
                 out.print(format("examplesTableCell", "{0}|", row.get(header)));
@@ -4,7 +4,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.jbehave.core.annotations.AsParameterConverter;
 import org.jbehave.core.configuration.Configuration;
@@ -21,22 +23,47 @@ import org.jbehave.core.steps.ParameterConverters.ParameterConverter;
  * The object instances are also inspected for methods annotated by {@link AsParameterConverter}
  * and the {@link ParameterConverter} is configured accordingly.
  * </p>
+ * <p>
+ * The {@link Steps} created for each type are cached and reused across calls,
+ * so that their candidates are only created once per steps type. A type no
+ * longer provided by {@link #stepsTypes()} is evicted from the cache.
+ * </p>
  */
 public abstract class AbstractStepsFactory implements InjectableStepsFactory {
 
     private final Configuration configuration;
+    private final Map<Class<?>, Steps> stepsByType = new HashMap<Class<?>, Steps>();
+    private final Map<Class<?>, ParameterConverters> convertersByType = new HashMap<Class<?>, ParameterConverters>();
 
 	public AbstractStepsFactory(Configuration configuration) {
 		this.configuration = configuration;
 	}
 	
-	public List<CandidateSteps> createCandidateSteps() {
+	public synchronized List<CandidateSteps> createCandidateSteps() {
 		List<Class<?>> types = stepsTypes();
+		stepsByType.keySet().retainAll(types);
+		convertersByType.keySet().retainAll(types);
 		List<CandidateSteps> steps = new ArrayList<CandidateSteps>();
 		for (Class<?> type : types) {
-			configuration.parameterConverters().addConverters(
-					methodReturningConverters(type));
-			steps.add(new Steps(configuration, type, this));
+			addMethodReturningConverters(type);
+			steps.add(stepsOfType(type));
+		}
+		return steps;
+	}
+
+	private void addMethodReturningConverters(Class<?> type) {
+		ParameterConverters parameterConverters = configuration.parameterConverters();
+		if (convertersByType.get(type) != parameterConverters) {
+			parameterConverters.addConverters(methodReturningConverters(type));
+			convertersByType.put(type, parameterConverters);
+		}
+	}
+
+	private Steps stepsOfType(Class<?> type) {
+		Steps steps = stepsByType.get(type);
+		if (steps == null) {
+			steps = new Steps(configuration, type, this);
+			stepsByType.put(type, steps);
 		}
 		return steps;
 	}
@@ -0,0 +1,18 @@
+package org.jbehave.core.steps;
+
+import java.lang.reflect.Type;
+
+/**
+ * Optional extension of {@link StepMonitor} to monitor the caching of step
+ * resolutions and of the parameter converters resolved by type. The events
+ * are only sent to the step monitors implementing this interface, so that the
+ * {@link StepMonitor} interface is unchanged.
+ */
+public interface CacheAwareStepMonitor extends StepMonitor {
+
+    void resolvedStep(String step, boolean fromCache, long cacheHits, long cacheMisses);
+
+    void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass, boolean fromCache,
+            long cacheHits, long cacheMisses);
+
+}
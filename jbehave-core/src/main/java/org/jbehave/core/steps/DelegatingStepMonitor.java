@@ -5,7 +5,7 @@ import java.lang.reflect.Type;
 
 import org.jbehave.core.model.StepPattern;
 
-public class DelegatingStepMonitor implements StepMonitor {
+public class DelegatingStepMonitor implements CacheAwareStepMonitor {
 
     protected final StepMonitor delegate;
 
@@ -17,6 +17,16 @@ public class DelegatingStepMonitor implements StepMonitor {
     	delegate.convertedValueOfType(value, type, converted, converterClass);
     }
 
+    public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass,
+            boolean fromCache, long cacheHits, long cacheMisses) {
+        if (delegate instanceof CacheAwareStepMonitor) {
+            ((CacheAwareStepMonitor) delegate).convertedValueOfType(value, type, converted, converterClass,
+                    fromCache, cacheHits, cacheMisses);
+        } else {
+            delegate.convertedValueOfType(value, type, converted, converterClass);
+        }
+    }
+
     public void stepMatchesType(String stepAsString, String previousAsString, boolean matchesType, StepType stepType, Method method, Object stepsInstance) {
     	delegate.stepMatchesType(stepAsString, previousAsString, matchesType, stepType, method, stepsInstance);
     }
@@ -25,6 +35,12 @@ public class DelegatingStepMonitor implements StepMonitor {
     	delegate.stepMatchesPattern(step, matches, stepPattern, method, stepsInstance);
     }
 
+    public void resolvedStep(String step, boolean fromCache, long cacheHits, long cacheMisses) {
+        if (delegate instanceof CacheAwareStepMonitor) {
+            ((CacheAwareStepMonitor) delegate).resolvedStep(step, fromCache, cacheHits, cacheMisses);
+        }
+    }
+
     public void foundParameter(String parameter, int position) {
     	delegate.foundParameter(parameter, position);
     }
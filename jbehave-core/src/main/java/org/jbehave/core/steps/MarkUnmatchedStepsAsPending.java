@@ -4,9 +4,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.configuration.Configuration;
 import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.model.Lifecycle;
 import org.jbehave.core.model.Meta;
@@ -16,13 +20,29 @@ import org.jbehave.core.steps.AbstractStepResult.Pending;
 import org.jbehave.core.steps.StepCreator.PendingStep;
 
 /**
+ * <p>
  * StepCollector that marks unmatched steps as {@link Pending}. It uses a
  * {@link StepFinder} to collect and prioritise {@link StepCandidate}s.
+ * </p>
+ * <p>
+ * The resolution of each textual step, i.e. the candidate it matches or
+ * whether it is pending or ignorable, is cached for the candidates collected,
+ * keyed by the step and by the starting word of the previous non-And step,
+ * as found by the {@link Keywords} of the candidate steps configuration. The
+ * cache hits and misses are reported via the {@link StepMonitor} of the same
+ * configuration, if it is a {@link CacheAwareStepMonitor}.
+ * </p>
  */
 public class MarkUnmatchedStepsAsPending implements StepCollector {
 
+    public static final int DEFAULT_MAX_CACHED_RESOLUTIONS = 10000;
+
     private final StepFinder stepFinder;
     private final Keywords keywords;
+    private final int maxCachedResolutions;
+    private volatile Resolutions resolutions;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     public MarkUnmatchedStepsAsPending() {
         this(new StepFinder());
@@ -36,9 +56,22 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         this(new StepFinder(), keywords);
     }
 
-   public MarkUnmatchedStepsAsPending(StepFinder stepFinder, Keywords keywords) {
+    public MarkUnmatchedStepsAsPending(StepFinder stepFinder, Keywords keywords) {
+        this(stepFinder, keywords, DEFAULT_MAX_CACHED_RESOLUTIONS);
+    }
+
+    /**
+     * Creates a MarkUnmatchedStepsAsPending
+     * 
+     * @param stepFinder the StepFinder
+     * @param keywords the Keywords
+     * @param maxCachedResolutions the maximum number of step resolutions
+     *            cached, with 0 disabling the cache
+     */
+    public MarkUnmatchedStepsAsPending(StepFinder stepFinder, Keywords keywords, int maxCachedResolutions) {
         this.stepFinder = stepFinder;
         this.keywords = keywords;
+        this.maxCachedResolutions = maxCachedResolutions;
     }
 
      public List<Step> collectBeforeOrAfterStoriesSteps(List<CandidateSteps> candidateSteps, Stage stage) {
@@ -116,34 +149,34 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
     private void addMatchedSteps(List<String> stepsAsString, List<Step> steps, Map<String, String> namedParameters,
             List<CandidateSteps> candidateSteps) {
         List<StepCandidate> allCandidates = stepFinder.collectCandidates(candidateSteps);
+        Map<ResolutionKey, Resolution> cached = cachedResolutionsFor(allCandidates);
+        StepMonitor stepMonitor = stepMonitor(candidateSteps);
+        Keywords stepsKeywords = keywords(candidateSteps);
         String previousNonAndStep = null;
         for (String stepAsString : stepsAsString) {
             // pending is default step, overridden below
             Step step = StepCreator.createPendingStep(stepAsString, previousNonAndStep);
             List<Step> composedSteps = new ArrayList<Step>();
-            List<StepCandidate> prioritisedCandidates = stepFinder.prioritise(stepAsString, allCandidates);
-            for (StepCandidate candidate : prioritisedCandidates) {
-                if (candidate.ignore(stepAsString)) {
-                    // ignorable steps are added
-                    // so they can be reported
-                    step = StepCreator.createIgnorableStep(stepAsString);
-                    break;
-                }
-                if (matchesCandidate(stepAsString, previousNonAndStep, candidate)) {
-                    // step matches candidate
-                    if (candidate.isPending()) {
-                        ((PendingStep) step).annotatedOn(candidate.getMethod());
-                    } else {
-                        step = candidate.createMatchedStep(stepAsString, namedParameters);
-                        if ( candidate.isComposite() ){
-                            candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, allCandidates);
-                        }
+            Resolution resolution = resolve(stepAsString, previousNonAndStep, allCandidates, cached, stepsKeywords,
+                    stepMonitor);
+            if (resolution.ignorable) {
+                // ignorable steps are added
+                // so they can be reported
+                step = StepCreator.createIgnorableStep(stepAsString);
+            } else if (resolution.candidate != null) {
+                // step matches candidate
+                StepCandidate candidate = resolution.candidate;
+                if (candidate.isPending()) {
+                    ((PendingStep) step).annotatedOn(candidate.getMethod());
+                } else {
+                    step = candidate.createMatchedStep(stepAsString, namedParameters);
+                    if ( candidate.isComposite() ){
+                        candidate.addComposedSteps(composedSteps, stepAsString, namedParameters, allCandidates);
                     }
-                    if (!(candidate.isAndStep(stepAsString) || candidate.isIgnorableStep(stepAsString))) {
-                        // only update previous step if not AND or IGNORABLE step
-                        previousNonAndStep = stepAsString;
-                    }
-                    break;
+                }
+                if (!(candidate.isAndStep(stepAsString) || candidate.isIgnorableStep(stepAsString))) {
+                    // only update previous step if not AND or IGNORABLE step
+                    previousNonAndStep = stepAsString;
                 }
             }
             if ( !(keywords.isAndStep(stepAsString) || keywords.isIgnorableStep(stepAsString)) ){
@@ -154,6 +187,91 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         }
     }
 
+    private Resolution resolve(String stepAsString, String previousNonAndStep, List<StepCandidate> allCandidates,
+            Map<ResolutionKey, Resolution> cached, Keywords stepsKeywords, StepMonitor stepMonitor) {
+        if (cached == null) {
+            return resolveByCandidates(stepAsString, previousNonAndStep, allCandidates);
+        }
+        ResolutionKey key = new ResolutionKey(stepAsString, previousStartingWord(previousNonAndStep, stepsKeywords));
+        Resolution resolution = cached.get(key);
+        if (resolution != null) {
+            resolvedStep(stepMonitor, stepAsString, true, cacheHits.incrementAndGet(), cacheMisses.get());
+            return resolution;
+        }
+        resolution = resolveByCandidates(stepAsString, previousNonAndStep, allCandidates);
+        if (cached.size() >= maxCachedResolutions) {
+            cached.clear();
+        }
+        cached.put(key, resolution);
+        resolvedStep(stepMonitor, stepAsString, false, cacheHits.get(), cacheMisses.incrementAndGet());
+        return resolution;
+    }
+
+    private void resolvedStep(StepMonitor stepMonitor, String stepAsString, boolean fromCache, long hits,
+            long misses) {
+        if (stepMonitor instanceof CacheAwareStepMonitor) {
+            ((CacheAwareStepMonitor) stepMonitor).resolvedStep(stepAsString, fromCache, hits, misses);
+        }
+    }
+
+    private Resolution resolveByCandidates(String stepAsString, String previousNonAndStep,
+            List<StepCandidate> allCandidates) {
+        if (!allCandidates.isEmpty() && allCandidates.get(0).ignore(stepAsString)) {
+            return Resolution.IGNORABLE;
+        }
+        for (StepCandidate candidate : stepFinder.prioritiseCandidatesFor(stepAsString, allCandidates)) {
+            if (matchesCandidate(stepAsString, previousNonAndStep, candidate)) {
+                return new Resolution(candidate, false);
+            }
+        }
+        return Resolution.PENDING;
+    }
+
+    private String previousStartingWord(String previousNonAndStep, Keywords stepsKeywords) {
+        // always keyed by the previous step, as whether a step is an And step
+        // depends on the keywords the candidates were created with
+        if (previousNonAndStep == null) {
+            return null;
+        }
+        try {
+            return stepsKeywords.startingWord(previousNonAndStep);
+        } catch (StartingWordNotFound e) {
+            return previousNonAndStep;
+        }
+    }
+
+    private Map<ResolutionKey, Resolution> cachedResolutionsFor(List<StepCandidate> allCandidates) {
+        if (maxCachedResolutions <= 0) {
+            return null;
+        }
+        Resolutions current = resolutions;
+        if (current == null || current.candidates != allCandidates) {
+            current = new Resolutions(allCandidates);
+            resolutions = current;
+        }
+        return current.byKey;
+    }
+
+    private StepMonitor stepMonitor(List<CandidateSteps> candidateSteps) {
+        for (CandidateSteps steps : candidateSteps) {
+            Configuration configuration = steps.configuration();
+            if (configuration != null && configuration.stepMonitor() != null) {
+                return configuration.stepMonitor();
+            }
+        }
+        return new NullStepMonitor();
+    }
+
+    private Keywords keywords(List<CandidateSteps> candidateSteps) {
+        for (CandidateSteps steps : candidateSteps) {
+            Configuration configuration = steps.configuration();
+            if (configuration != null && configuration.keywords() != null) {
+                return configuration.keywords();
+            }
+        }
+        return keywords;
+    }
+
     private boolean matchesCandidate(String step, String previousNonAndStep, StepCandidate candidate) {
         if (previousNonAndStep != null) {
             return candidate.matches(step, previousNonAndStep);
@@ -161,4 +279,55 @@ public class MarkUnmatchedStepsAsPending implements StepCollector {
         return candidate.matches(step);
     }
 
+    private static class Resolutions {
+
+        private final List<StepCandidate> candidates;
+        private final Map<ResolutionKey, Resolution> byKey = new ConcurrentHashMap<ResolutionKey, Resolution>();
+
+        Resolutions(List<StepCandidate> candidates) {
+            this.candidates = candidates;
+        }
+    }
+
+    private static class ResolutionKey {
+
+        private final String step;
+        private final String previousStartingWord;
+
+        ResolutionKey(String step, String previousStartingWord) {
+            this.step = step;
+            this.previousStartingWord = previousStartingWord;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * step.hashCode() + (previousStartingWord == null ? 0 : previousStartingWord.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ResolutionKey)) {
+                return false;
+            }
+            ResolutionKey other = (ResolutionKey) obj;
+            return step.equals(other.step)
+                    && (previousStartingWord == null ? other.previousStartingWord == null : previousStartingWord
+                            .equals(other.previousStartingWord));
+        }
+    }
+
+    private static class Resolution {
+
+        static final Resolution PENDING = new Resolution(null, false);
+        static final Resolution IGNORABLE = new Resolution(null, true);
+
+        private final StepCandidate candidate;
+        private final boolean ignorable;
+
+        Resolution(StepCandidate candidate, boolean ignorable) {
+            this.candidate = candidate;
+            this.ignorable = ignorable;
+        }
+    }
+
 }
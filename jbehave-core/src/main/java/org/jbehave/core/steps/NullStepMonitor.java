@@ -9,7 +9,7 @@ import org.jbehave.core.model.StepPattern;
  * <a href="http://en.wikipedia.org/wiki/Null_Object_pattern">Null Object Pattern</a> implementation of {@link StepMonitor}.
  * Can be extended to override only the methods of interest.
  */
-public class NullStepMonitor implements StepMonitor {
+public class NullStepMonitor implements CacheAwareStepMonitor {
     public void stepMatchesType(String stepAsString, String previousAsString, boolean matchesType, StepType stepType,
             Method method, Object stepsInstance) {
     }
@@ -18,9 +18,17 @@ public class NullStepMonitor implements StepMonitor {
             Object stepsInstance) {
     }
 
+    public void resolvedStep(String step, boolean fromCache, long cacheHits, long cacheMisses) {
+    }
+
     public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass) {
     }
 
+    public void convertedValueOfType(String value, Type type, Object converted, Class<?> converterClass,
+            boolean fromCache, long cacheHits, long cacheMisses) {
+        convertedValueOfType(value, type, converted, converterClass);
+    }
+
     public void performing(String step, boolean dryRun) {
     }
 
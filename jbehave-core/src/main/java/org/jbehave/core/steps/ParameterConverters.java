@@ -13,8 +13,11 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -61,9 +64,24 @@ public class ParameterConverters {
     private static final String DEFAULT_TRUE_VALUE = "true";
     private static final String DEFAULT_FALSE_VALUE = "false";
 
+    private static final ParameterConverter NO_CONVERTER = new ParameterConverter() {
+
+        public boolean accept(Type type) {
+            return false;
+        }
+
+        public Object convertValue(String value, Type type) {
+            throw new UnsupportedOperationException();
+        }
+
+    };
+
     private final StepMonitor monitor;
     private final List<ParameterConverter> converters;
     private final boolean threadSafe;
+    private volatile Map<Type, ParameterConverter> convertersByType = new ConcurrentHashMap<Type, ParameterConverter>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
 
     /**
      * Creates a non-thread-safe instance of ParameterConverters using default
@@ -140,18 +158,32 @@ public class ParameterConverters {
 
     public ParameterConverters addConverters(List<ParameterConverter> converters) {
         this.converters.addAll(0, converters);
+        // the converters resolved so far may no longer be the first to accept
+        this.convertersByType = new ConcurrentHashMap<Type, ParameterConverter>();
         return this;
     }
 
     public Object convert(String value, Type type) {
 
-        // check if any converters accepts type
-        for (ParameterConverter converter : converters) {
-            if (converter.accept(type)) {
-                Object converted = converter.convertValue(value, type);
+        Map<Type, ParameterConverter> resolved = convertersByType;
+        ParameterConverter converter = resolved.get(type);
+        boolean fromCache = (converter != null);
+        if (!fromCache) {
+            converter = converterFor(type);
+            resolved.put(type, converter);
+        }
+        long hits = (fromCache ? cacheHits.incrementAndGet() : cacheHits.get());
+        long misses = (fromCache ? cacheMisses.get() : cacheMisses.incrementAndGet());
+
+        if (converter != NO_CONVERTER) {
+            Object converted = converter.convertValue(value, type);
+            if (monitor instanceof CacheAwareStepMonitor) {
+                ((CacheAwareStepMonitor) monitor).convertedValueOfType(value, type, converted, converter.getClass(),
+                        fromCache, hits, misses);
+            } else {
                 monitor.convertedValueOfType(value, type, converted, converter.getClass());
-                return converted;
             }
+            return converted;
         }
 
         if (type == String.class) {
@@ -161,6 +193,23 @@ public class ParameterConverters {
         throw new ParameterConvertionFailed("No parameter converter for " + type);
     }
 
+    /**
+     * Returns the first converter that accepts the type, in the order in which
+     * they were added
+     * 
+     * @param type the Type to convert to
+     * @return The ParameterConverter, or {@link #NO_CONVERTER} if none accepts
+     *         the type
+     */
+    private ParameterConverter converterFor(Type type) {
+        for (ParameterConverter converter : converters) {
+            if (converter.accept(type)) {
+                return converter;
+            }
+        }
+        return NO_CONVERTER;
+    }
+
     private Object replaceNewlinesWithSystemNewlines(String value) {
         return value.replaceAll(NEWLINES_PATTERN, SYSTEM_NEWLINE);
     }
@@ -219,17 +268,20 @@ public class ParameterConverters {
                 float.class, long.class, double.class });
 
         private final NumberFormat numberFormat;
-        private ThreadLocal<NumberFormat> threadLocalNumberFormat = new ThreadLocal<NumberFormat>();
+        private final ThreadLocal<NumberFormat> threadLocalNumberFormat = new ThreadLocal<NumberFormat>() {
+            @Override
+            protected NumberFormat initialValue() {
+                // the prototype is never modified, so it can be cloned by any thread
+                return (NumberFormat) numberFormat.clone();
+            }
+        };
 
         public NumberConverter() {
             this(NumberFormat.getInstance(DEFAULT_NUMBER_FORMAT_LOCAL));
         }
 
         public NumberConverter(NumberFormat numberFormat) {
-            synchronized (this) {
-                this.numberFormat = numberFormat;
-                this.threadLocalNumberFormat.set((NumberFormat) this.numberFormat.clone());
-            }
+            this.numberFormat = numberFormat;
         }
 
         public boolean accept(Type type) {
@@ -278,11 +330,6 @@ public class ParameterConverters {
          * @return A threadlocal version of original NumberFormat instance
          */
         private NumberFormat numberFormat() {
-            if (threadLocalNumberFormat.get() == null) {
-                synchronized (this) {
-                    threadLocalNumberFormat.set((NumberFormat) numberFormat.clone());
-                }
-            }
             return threadLocalNumberFormat.get();
         }
 
@@ -302,8 +349,9 @@ public class ParameterConverters {
             StringBuilder builder = new StringBuilder(value.length());
 
             // override defaults according to numberFormat's settings
-            if (numberFormat() instanceof DecimalFormat) {
-                DecimalFormatSymbols decimalFormatSymbols = ((DecimalFormat) numberFormat()).getDecimalFormatSymbols();
+            NumberFormat numberFormat = numberFormat();
+            if (numberFormat instanceof DecimalFormat) {
+                DecimalFormatSymbols decimalFormatSymbols = ((DecimalFormat) numberFormat).getDecimalFormatSymbols();
                 minusSign = decimalFormatSymbols.getMinusSign();
                 decimalPointSeparator = decimalFormatSymbols.getDecimalSeparator();
             }
@@ -437,13 +485,21 @@ public class ParameterConverters {
 
     /**
      * Parses value to a {@link Date} using an injectable {@link DateFormat}
-     * (defaults to <b>new SimpleDateFormat("dd/MM/yyyy")</b>)
+     * (defaults to <b>new SimpleDateFormat("dd/MM/yyyy")</b>). As date formats
+     * are not thread-safe, the format is used as a prototype of which each
+     * thread parses with its own clone.
      */
     public static class DateConverter implements ParameterConverter {
 
         public static final DateFormat DEFAULT_FORMAT = new SimpleDateFormat("dd/MM/yyyy");
 
         private final DateFormat dateFormat;
+        private final ThreadLocal<DateFormat> threadLocalDateFormat = new ThreadLocal<DateFormat>() {
+            @Override
+            protected DateFormat initialValue() {
+                return (DateFormat) dateFormat.clone();
+            }
+        };
 
         public DateConverter() {
             this(DEFAULT_FORMAT);
@@ -462,7 +518,7 @@ public class ParameterConverters {
 
         public Object convertValue(String value, Type type) {
             try {
-                return dateFormat.parse(value);
+                return threadLocalDateFormat.get().parse(value);
             } catch (ParseException e) {
                 throw new ParameterConvertionFailed("Failed to convert value "
                         + value
@@ -546,10 +602,13 @@ public class ParameterConverters {
     }
 
     /**
-     * Parses value to any {@link Enum}
+     * Parses value to any {@link Enum}, looking up the constants of each enum
+     * type by name once
      */
     public static class EnumConverter implements ParameterConverter {
 
+        private final Map<Class<?>, Map<String, Object>> constantsByType = new ConcurrentHashMap<Class<?>, Map<String, Object>>();
+
         public boolean accept(Type type) {
             if (type instanceof Class<?>) {
                 return ((Class<?>) type).isEnum();
@@ -557,17 +616,31 @@ public class ParameterConverters {
             return false;
         }
 
+        @SuppressWarnings({ "unchecked", "rawtypes" })
         public Object convertValue(String value, Type type) {
-            String typeClass = ((Class<?>) type).getName();
             Class<?> enumClass = (Class<?>) type;
-            Method valueOfMethod = null;
+            Object constant = constantsOf(enumClass).get(value);
+            if (constant != null) {
+                return constant;
+            }
             try {
-                valueOfMethod = enumClass.getMethod("valueOf", new Class[] { String.class });
-                valueOfMethod.setAccessible(true);
-                return valueOfMethod.invoke(enumClass, new Object[] { value });
+                // not a constant name: let the enum report the failure
+                return Enum.valueOf((Class<Enum>) enumClass, value);
             } catch (Exception e) {
-                throw new ParameterConvertionFailed("Failed to convert " + value + " for Enum " + typeClass, e);
+                throw new ParameterConvertionFailed("Failed to convert " + value + " for Enum " + enumClass.getName(), e);
+            }
+        }
+
+        private Map<String, Object> constantsOf(Class<?> enumClass) {
+            Map<String, Object> constants = constantsByType.get(enumClass);
+            if (constants == null) {
+                constants = new HashMap<String, Object>();
+                for (Object constant : enumClass.getEnumConstants()) {
+                    constants.put(((Enum<?>) constant).name(), constant);
+                }
+                constantsByType.put(enumClass, constants);
             }
+            return constants;
         }
     }
 
@@ -13,11 +13,14 @@ import static java.util.Arrays.asList;
  * StepMonitor that prints to a {@link PrintStream}, defaulting to
  * {@link System.out}.
  */
-public class PrintStreamStepMonitor implements StepMonitor {
+public class PrintStreamStepMonitor implements CacheAwareStepMonitor {
 
 	private static final String CONVERTED_VALUE_OF_TYPE = "Converted value ''{0}'' of type ''{1}'' to ''{2}'' with converter ''{3}''";
 	private static final String STEP_MATCHES_TYPE = "Step ''{0}'' (with previous step ''{1}'') ''{2}'' type ''{3}'' for method ''{4}'' with annotations ''{5}'' in steps instance ''{6}''";
 	private static final String STEP_MATCHES_PATTERN = "Step ''{0}'' {1} pattern ''{2}'' for method ''{3}'' with annotations ''{4}'' in steps instance ''{5}''";
+	private static final String RESOLVED_STEP = "Step ''{0}'' resolved {1} (cache hits: {2}, misses: {3})";
+	private static final String FROM_CACHE = "from cache";
+	private static final String BY_MATCHING = "by matching";
 	private static final String PERFORMING = "Performing step ''{0}'' {1}";
 	private static final String DRY_RUN = "(DRY RUN)";
 	private static final String MATCHES = "matches";
@@ -56,12 +59,21 @@ public class PrintStreamStepMonitor implements StepMonitor {
 		print(output, message);
 	}
 
+	public void resolvedStep(String step, boolean fromCache, long cacheHits, long cacheMisses) {
+		print(output, format(RESOLVED_STEP, step, (fromCache ? FROM_CACHE : BY_MATCHING), cacheHits, cacheMisses));
+	}
+
 	public void convertedValueOfType(String value, Type type, Object converted,
 			Class<?> converterClass) {
 		print(output, format(CONVERTED_VALUE_OF_TYPE, value, type,
 				converted, converterClass));
 	}
 
+	public void convertedValueOfType(String value, Type type, Object converted,
+			Class<?> converterClass, boolean fromCache, long cacheHits, long cacheMisses) {
+		convertedValueOfType(value, type, converted, converterClass);
+	}
+
 	public void performing(String step, boolean dryRun) {
 		print(output, format(PERFORMING, step, (dryRun ? DRY_RUN : "")));
 	}
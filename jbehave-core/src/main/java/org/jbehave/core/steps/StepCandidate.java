@@ -76,6 +76,14 @@ public class StepCandidate {
         return stepType;
     }
 
+    public StepMatcher getStepMatcher() {
+        return stepMatcher;
+    }
+
+    public Keywords getKeywords() {
+        return keywords;
+    }
+
     public String getStartingWord() {
         return keywords.startingWordFor(stepType);
     }
@@ -129,13 +137,19 @@ public class StepCandidate {
                 if (previousNonAndStep == null) {
                     // cannot handle AND step with no previous step
                     matchesType = false;
+                } else if (!keywords.hasStartingWord(previousNonAndStep, stepType)) {
+                    // previous step is not of candidate step type
+                    matchesType = false;
                 } else {
                     // previous step type should match candidate step type
                     matchesType = keywords.startingWordFor(stepType).equals(findStartingWord(previousNonAndStep));
                 }
             }
             stepMonitor.stepMatchesType(step, previousNonAndStep, matchesType, stepType, method, stepsType);
-            boolean matchesPattern = stepMatcher.matches(stripStartingWord(step));
+            if (!keywords.hasStartingWord(step, stepType)) {
+                return false;
+            }
+            boolean matchesPattern = stepMatcher.matches(stripStartingWord(step)).matched();
             stepMonitor.stepMatchesPattern(step, matchesPattern, stepMatcher.pattern(), method, stepsType);
             // must match both type and pattern
             return matchesType && matchesPattern;
@@ -0,0 +1,158 @@
+package org.jbehave.core.steps;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatcher;
+
+/**
+ * Index of {@link StepCandidate}s by the literal prefixes of their patterns,
+ * held in a trie for each {@link StepType}, used to prune the candidates that
+ * cannot match a textual step. The candidates for which no literal prefix can
+ * be determined are never pruned.
+ */
+class StepCandidateIndex {
+
+    private final List<StepCandidate> candidates;
+    private final BitSet unindexed = new BitSet();
+    private final List<TypeTrie> tries = new ArrayList<TypeTrie>();
+
+    StepCandidateIndex(List<StepCandidate> candidates) {
+        this.candidates = candidates;
+        for (int position = 0; position < candidates.size(); position++) {
+            StepCandidate candidate = candidates.get(position);
+            String prefix = literalPrefixOf(candidate);
+            if (prefix != null && candidate.getStepType() != null && candidate.getKeywords() != null) {
+                trieFor(candidate.getStepType(), candidate.getKeywords()).add(prefix, position);
+            } else {
+                unindexed.set(position);
+            }
+        }
+    }
+
+    List<StepCandidate> candidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the candidates that may match the textual step, in the order in
+     * which they were indexed
+     *
+     * @param stepAsString the textual step
+     * @return The List of StepCandidates
+     */
+    List<StepCandidate> candidatesFor(String stepAsString) {
+        if (tries.isEmpty()) {
+            return candidates;
+        }
+        BitSet positions = (BitSet) unindexed.clone();
+        for (TypeTrie trie : tries) {
+            trie.collect(stepAsString, positions);
+        }
+        List<StepCandidate> matching = new ArrayList<StepCandidate>(positions.cardinality());
+        for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+            matching.add(candidates.get(position));
+        }
+        return matching;
+    }
+
+    private String literalPrefixOf(StepCandidate candidate) {
+        StepMatcher stepMatcher = candidate.getStepMatcher();
+        if (stepMatcher instanceof RegexStepMatcher) {
+            return ((RegexStepMatcher) stepMatcher).literalPrefix();
+        }
+        return null;
+    }
+
+    private TypeTrie trieFor(StepType stepType, Keywords keywords) {
+        for (TypeTrie trie : tries) {
+            if (trie.stepType == stepType && trie.keywords == keywords) {
+                return trie;
+            }
+        }
+        TypeTrie trie = new TypeTrie(stepType, keywords);
+        tries.add(trie);
+        return trie;
+    }
+
+    private static class TypeTrie {
+
+        private final StepType stepType;
+        private final Keywords keywords;
+        private final Node root = new Node();
+
+        TypeTrie(StepType stepType, Keywords keywords) {
+            this.stepType = stepType;
+            this.keywords = keywords;
+        }
+
+        void add(String prefix, int position) {
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.childAdding(prefix.charAt(i));
+            }
+            node.positions.add(position);
+        }
+
+        void collect(String stepAsString, BitSet positions) {
+            String stepWithoutStartingWord;
+            try {
+                stepWithoutStartingWord = keywords.stepWithoutStartingWord(stepAsString, stepType);
+            } catch (StartingWordNotFound e) {
+                // no candidate of this type can match
+                return;
+            }
+            Node node = root;
+            node.addPositionsTo(positions);
+            boolean previousWhitespace = false;
+            for (int i = 0; i < stepWithoutStartingWord.length(); i++) {
+                char c = stepWithoutStartingWord.charAt(i);
+                boolean whitespace = Character.isWhitespace(c);
+                if (whitespace && previousWhitespace) {
+                    continue;
+                }
+                previousWhitespace = whitespace;
+                node = node.child(whitespace ? ' ' : c);
+                if (node == null) {
+                    return;
+                }
+                node.addPositionsTo(positions);
+            }
+        }
+    }
+
+    private static class Node {
+
+        private Map<Character, Node> children;
+        private final List<Integer> positions = new ArrayList<Integer>(1);
+
+        Node child(char c) {
+            return children != null ? children.get(c) : null;
+        }
+
+        Node childAdding(char c) {
+            if (children == null) {
+                children = new HashMap<Character, Node>();
+            }
+            Node child = children.get(c);
+            if (child == null) {
+                child = new Node();
+                children.put(c, child);
+            }
+            return child;
+        }
+
+        void addPositionsTo(BitSet bits) {
+            for (int position : positions) {
+                bits.set(position);
+            }
+        }
+    }
+
+}
@@ -6,6 +6,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,6 +19,7 @@ import org.jbehave.core.failures.RestartingScenarioFailure;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.ExamplesTable;
 import org.jbehave.core.model.Meta;
+import org.jbehave.core.parsers.StepMatch;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 
@@ -49,6 +51,7 @@ public class StepCreator {
     private final ParameterControls parameterControls;
     private final Pattern delimitedNamePattern;
     private final StepMatcher stepMatcher;
+    private final Map<Method, ParameterPlan> parameterPlans = new ConcurrentHashMap<Method, ParameterPlan>();
     private StepMonitor stepMonitor;
     private Paranamer paranamer = new NullParanamer();
     private boolean dryRun = false;
@@ -72,6 +75,7 @@ public class StepCreator {
 
     public void useParanamer(Paranamer paranamer) {
         this.paranamer = paranamer;
+        this.parameterPlans.clear();
     }
 
     public void doDryRun(boolean dryRun) {
@@ -82,6 +86,21 @@ public class StepCreator {
         return stepsFactory.createInstanceOfType(stepsType);
     }
 
+    /**
+     * Returns the parameter plan of the method, computing it upon first request
+     * 
+     * @param method the Method
+     * @return The ParameterPlan
+     */
+    private ParameterPlan parameterPlanFor(Method method) {
+        ParameterPlan plan = parameterPlans.get(method);
+        if (plan == null) {
+            plan = new ParameterPlan(method, parameterNames(method));
+            parameterPlans.put(method, plan);
+        }
+        return plan;
+    }
+
     public Step createBeforeOrAfterStep(Method method, Meta meta) {
         return new BeforeOrAfterStep(method, meta);
     }
@@ -101,15 +120,14 @@ public class StepCreator {
     public Map<String, String> matchedParameters(final Method method, final String stepAsString,
             final String stepWithoutStartingWord, final Map<String, String> namedParameters) {
         Map<String, String> matchedParameters = new HashMap<String, String>(); 
-        if (stepMatcher.find(stepWithoutStartingWord)) { 
+        StepMatch match = stepMatcher.find(stepWithoutStartingWord);
+        if (match.matched()) { 
             // we've found a match, populate map
-            ParameterName[] parameterNames = parameterNames(method);
-            Type[] types = method.getGenericParameterTypes();
-            String[] values = parameterValuesForStep(namedParameters, types, parameterNames);
-    
-            
-            for (int i = 0; i < parameterNames.length; i++) {
-                String name = parameterNames[i].name;
+            ParameterPlan plan = parameterPlanFor(method);
+            String[] values = parameterValuesForStep(match, namedParameters, plan);
+
+            for (int i = 0; i < plan.names.length; i++) {
+                String name = plan.names[i].name;
                 if (name == null) {
                     name = stepMatcher.parameterNames()[i];
                 }
@@ -202,7 +220,7 @@ public class StepCreator {
     }
 
     private String parametrisedStep(String stepAsString, Map<String, String> namedParameters, Type[] types,
-            ParameterName[] names, String[] parameterValues) {
+            String[] parameterValues) {
     	String parametrisedStep = stepAsString;
     	// mark parameter values that are parsed
         for (int position = 0; position < types.length; position++) {
@@ -263,10 +281,11 @@ public class StepCreator {
         return type instanceof Class && ((Class<?>) type).isAssignableFrom(ExamplesTable.class);
     }
 
-    private String[] parameterValuesForStep(Map<String, String> namedParameters, Type[] types, ParameterName[] names) {
-        final String[] parameters = new String[types.length];
-        for (int position = 0; position < types.length; position++) {
-            parameters[position] = parameterForPosition(position, names, namedParameters);
+    private String[] parameterValuesForStep(StepMatch match, Map<String, String> namedParameters,
+            ParameterPlan plan) {
+        final String[] parameters = new String[plan.types.length];
+        for (int position = 0; position < plan.types.length; position++) {
+            parameters[position] = parameterForPosition(match, position, plan, namedParameters);
         }
         return parameters;
     }
@@ -279,18 +298,18 @@ public class StepCreator {
         return parameters;
     }
 
-    private String parameterForPosition(int position, ParameterName[] names, Map<String, String> namedParameters) {
-        int namePosition = parameterPosition(names, position);
+    private String parameterForPosition(StepMatch match, int position, ParameterPlan plan,
+            Map<String, String> namedParameters) {
         String parameter = null;
 
-        if (namePosition != -1) {
-            String name = names[position].name;
-            boolean annotated = names[position].annotated;
+        if (plan.isNamed(position)) {
+            String name = plan.names[position].name;
+            boolean annotated = plan.names[position].annotated;
 
             boolean delimitedNamedParameters = false;
 
-            if (isGroupName(name)) {
-                parameter = matchedParameter(name);
+            if (plan.isGroupNamed(position)) {
+                parameter = matchedParameter(match, plan.groups[position]);
                 String delimitedName = delimitedNameFor(parameter);
 
                 if (delimitedName != null) {
@@ -310,7 +329,7 @@ public class StepCreator {
 
         if (parameter == null) {
             stepMonitor.usingNaturalOrderForParameter(position);
-            parameter = matchedParameter(position);
+            parameter = matchedParameter(match, position);
             String delimitedName = delimitedNameFor(parameter);
 
             if (delimitedName != null && isTableName(namedParameters, delimitedName)) {
@@ -347,50 +366,26 @@ public class StepCreator {
         return matcher.matches() ? matcher.group(1) : null;
     }
 
-    String matchedParameter(String name) {
+    String matchedParameter(StepMatch match, String name) {
         String[] parameterNames = stepMatcher.parameterNames();
         for (int i = 0; i < parameterNames.length; i++) {
             String parameterName = parameterNames[i];
             if (name.equals(parameterName)) {
-                return matchedParameter(i);
+                return matchedParameter(match, i);
             }
         }
         throw new ParameterNotFound(name, parameterNames);
     }
 
-    private String matchedParameter(int position) {
+    private String matchedParameter(StepMatch match, int position) {
         String[] parameterNames = stepMatcher.parameterNames();
         int matchedPosition = position + 1;
         if (matchedPosition <= parameterNames.length) {
-            return stepMatcher.parameter(matchedPosition);
+            return match.parameter(matchedPosition);
         }
         throw new ParameterNotFound(position, parameterNames);
     }
 
-    private int parameterPosition(ParameterName[] names, int position) {
-        if (names.length == 0) {
-            return -1;
-        }
-        String positionName = names[position].name;
-        for (int i = 0; i < names.length; i++) {
-            String name = names[i].name;
-            if (name != null && positionName.equals(name)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    private boolean isGroupName(String name) {
-        String[] groupNames = stepMatcher.parameterNames();
-        for (String groupName : groupNames) {
-            if (name.equals(groupName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private String namedParameter(Map<String, String> namedParameters, String name) {
         return namedParameters.get(name);
     }
@@ -451,10 +446,10 @@ public class StepCreator {
 
         public StepResult perform(UUIDExceptionWrapper storyFailureIfItHappened) {
             ParameterConverters paramConvertersWithExceptionInjector = paramConvertersWithExceptionInjector(storyFailureIfItHappened);
-            MethodInvoker methodInvoker = new MethodInvoker(method, paramConvertersWithExceptionInjector, paranamer,
-                    meta);
 
             try {
+                MethodInvoker methodInvoker = new MethodInvoker(parameterPlanFor(method),
+                        paramConvertersWithExceptionInjector, meta);
                 methodInvoker.invoke();
             } catch (InvocationTargetException e) {
                 return failed(method, new UUIDExceptionWrapper(new BeforeOrAfterFailed(method, e.getCause())));
@@ -581,13 +576,12 @@ public class StepCreator {
         }
 
         private void parametriseStep() {
-            stepMatcher.find(stepWithoutStartingWord);
-            ParameterName[] names = parameterNames(method);
-            Type[] types = method.getGenericParameterTypes();
-            String[] parameterValues = parameterValuesForStep(namedParameters, types, names);
-            convertedParameters = convertParameterValues(parameterValues, types);
+            StepMatch match = stepMatcher.find(stepWithoutStartingWord);
+            ParameterPlan plan = parameterPlanFor(method);
+            String[] parameterValues = parameterValuesForStep(match, namedParameters, plan);
+            convertedParameters = convertParameterValues(parameterValues, plan.types);
             addNamedParametersToExamplesTables();
-            parametrisedStep = parametrisedStep(stepAsString, namedParameters, types, names, parameterValues);
+            parametrisedStep = parametrisedStep(stepAsString, namedParameters, plan.types, parameterValues);
         }
 
         private void addNamedParametersToExamplesTables() {
@@ -653,78 +647,85 @@ public class StepCreator {
     }
 
     private class MethodInvoker {
-        private final Method method;
+        private final ParameterPlan plan;
         private final ParameterConverters parameterConverters;
-        private final Paranamer paranamer;
         private final Meta meta;
-        private int methodArity;
 
-        public MethodInvoker(Method method, ParameterConverters parameterConverters, Paranamer paranamer, Meta meta) {
-            this.method = method;
+        public MethodInvoker(ParameterPlan plan, ParameterConverters parameterConverters, Meta meta) {
+            this.plan = plan;
             this.parameterConverters = parameterConverters;
-            this.paranamer = paranamer;
             this.meta = meta;
-            this.methodArity = method.getParameterTypes().length;
         }
 
         public void invoke() throws InvocationTargetException, IllegalAccessException {
-            method.invoke(stepsInstance(), parameterValuesFrom(meta));
+            plan.method.invoke(stepsInstance(), parameterValuesFrom(meta));
         }
 
-        private Parameter[] methodParameters() {
-            Parameter[] parameters = new Parameter[methodArity];
-            String[] annotationNamedParameters = annotatedParameterNames(method);
-            String[] parameterNames = paranamer.lookupParameterNames(method, false);
-            Class<?>[] parameterTypes = method.getParameterTypes();
-
-            for (int paramPosition = 0; paramPosition < methodArity; paramPosition++) {
-                String paramName = parameterNameFor(paramPosition, annotationNamedParameters, parameterNames);
-                parameters[paramPosition] = new Parameter(paramPosition, parameterTypes[paramPosition], paramName);
+        private Object[] parameterValuesFrom(Meta meta) {
+            Class<?>[] parameterTypes = plan.parameterTypes;
+            Object[] values = new Object[parameterTypes.length];
+            for (int position = 0; position < values.length; position++) {
+                values[position] = parameterConverters.convert(valueFrom(meta, position), parameterTypes[position]);
             }
-
-            return parameters;
+            return values;
         }
 
-        private String parameterNameFor(int paramPosition, String[] annotationNamedParameters, String[] parameterNames) {
-            String nameFromAnnotation = nameIfValidPositionInArray(annotationNamedParameters, paramPosition);
-            String parameterName = nameIfValidPositionInArray(parameterNames, paramPosition);
-            if (nameFromAnnotation != null) {
-                return nameFromAnnotation;
-            } else if (parameterName != null) {
-                return parameterName;
+        private String valueFrom(Meta meta, int position) {
+            String name = plan.nameOf(position);
+            if (name == null) {
+                return null;
             }
-            return null;
+            return meta.getProperty(name);
         }
+    }
 
-        private String nameIfValidPositionInArray(String[] paramNames, int paramPosition) {
-            return paramPosition < paramNames.length ? paramNames[paramPosition] : null;
+    /**
+     * The binding of the arguments of a method to their sources, computed once
+     * per method so that only the values need to be resolved when a step is
+     * performed. Each argument is bound either to the matched group it is
+     * named after, or to the named parameter of the same name, or else to the
+     * matched group in its natural order.
+     */
+    private class ParameterPlan {
+        private final Method method;
+        private final Class<?>[] parameterTypes;
+        private final Type[] types;
+        private final ParameterName[] names;
+        private final int[] groups;
+
+        private ParameterPlan(Method method, ParameterName[] names) {
+            this.method = method;
+            this.parameterTypes = method.getParameterTypes();
+            this.types = method.getGenericParameterTypes();
+            this.names = names;
+            this.groups = new int[names.length];
+            String[] groupNames = (stepMatcher != null ? stepMatcher.parameterNames() : new String[0]);
+            for (int position = 0; position < names.length; position++) {
+                groups[position] = groupPosition(groupNames, names[position].name);
+            }
         }
 
-        private Object[] parameterValuesFrom(Meta meta) {
-            Object[] values = new Object[methodArity];
-            for (Parameter parameter : methodParameters()) {
-                values[parameter.position] = parameterConverters.convert(parameter.valueFrom(meta), parameter.type);
+        private int groupPosition(String[] groupNames, String name) {
+            if (name != null && groupNames != null) {
+                for (int i = 0; i < groupNames.length; i++) {
+                    if (name.equals(groupNames[i])) {
+                        return i;
+                    }
+                }
             }
-            return values;
+            return -1;
         }
 
-        private class Parameter {
-            private final int position;
-            private final Class<?> type;
-            private final String name;
+        private String nameOf(int position) {
+            return position < names.length ? names[position].name : null;
+        }
 
-            public Parameter(int position, Class<?> type, String name) {
-                this.position = position;
-                this.type = type;
-                this.name = name;
-            }
+        private boolean isNamed(int position) {
+            return names[position].name != null;
+        }
 
-            public String valueFrom(Meta meta) {
-                if (name == null) {
-                    return null;
-                }
-                return meta.getProperty(name);
-            }
+        private boolean isGroupNamed(int position) {
+            return groups[position] != -1;
         }
     }
 
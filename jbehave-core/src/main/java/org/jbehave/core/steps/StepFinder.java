@@ -5,6 +5,9 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -25,7 +28,10 @@ import org.apache.commons.lang.StringUtils;
  */
 public class StepFinder {
 
+    private static final int MAX_COLLECTED = 64;
+
     private PrioritisingStrategy prioritisingStrategy;
+    private final Map<List<CandidateSteps>, Collected> collectedBySteps = new ConcurrentHashMap<List<CandidateSteps>, Collected>();
 
     /**
      * Creates a StepFinder with a {@link ByPriorityField} strategy
@@ -72,7 +78,7 @@ public class StepFinder {
      */
     public List<Stepdoc> findMatching(String stepAsText, List<CandidateSteps> candidateSteps) {
         List<Stepdoc> matching = new ArrayList<Stepdoc>();
-        for (StepCandidate candidate : collectCandidates(candidateSteps)) {
+        for (StepCandidate candidate : candidatesFor(stepAsText, collectCandidates(candidateSteps))) {
             if (candidate.matches(stepAsText)) {
                 matching.add(new Stepdoc(candidate));
             }
@@ -99,21 +105,56 @@ public class StepFinder {
 
     /**
      * Collects a list of step candidates from {@link CandidateSteps} instances.
+     * The candidates collected are reused for as long as each of the
+     * {@link CandidateSteps} keeps providing the same list of candidates.
      * 
      * @param candidateSteps
      *            the list {@link CandidateSteps} instances
-     * @return A List of {@link StepCandidate}
+     * @return An unmodifiable List of {@link StepCandidate}
      */
     public List<StepCandidate> collectCandidates(List<CandidateSteps> candidateSteps) {
-        List<StepCandidate> collected = new ArrayList<StepCandidate>();
+        List<List<StepCandidate>> sources = new ArrayList<List<StepCandidate>>(candidateSteps.size());
         for (CandidateSteps steps : candidateSteps) {
-            collected.addAll(steps.listCandidates());
+            sources.add(steps.listCandidates());
+        }
+        Collected collected = collectedBySteps.get(candidateSteps);
+        if (collected == null || !collected.collectedFrom(sources)) {
+            collected = new Collected(sources, prioritisingStrategy);
+            if (collectedBySteps.size() >= MAX_COLLECTED) {
+                collectedBySteps.clear();
+            }
+            collectedBySteps.put(new ArrayList<CandidateSteps>(candidateSteps), collected);
+        }
+        return collected.candidates;
+    }
+
+    /**
+     * Returns the candidates that may match a given textual step, pruning
+     * those whose pattern starts with literal text that the step does not
+     * start with. Only the candidates collected via
+     * {@link #collectCandidates(List)} are pruned, using an index of the
+     * literal prefixes of their patterns by step type.
+     * 
+     * @param stepAsText
+     *            the textual step to match
+     * @param candidates
+     *            the List of StepCandidate
+     * @return The List of StepCandidate that may match, in the order of the
+     *         given list
+     */
+    public List<StepCandidate> candidatesFor(String stepAsText, List<StepCandidate> candidates) {
+        Collected collected = collectedAs(candidates);
+        if (collected != null) {
+            return collected.index().candidatesFor(stepAsText);
         }
-        return collected;
+        return candidates;
     }
 
     /**
-     * Prioritises the list of step candidates that match a given step.
+     * Prioritises the list of step candidates that match a given step. If the
+     * {@link PrioritisingStrategy} is a {@link StepIndependentPrioritisingStrategy}
+     * the candidates collected via {@link #collectCandidates(List)} are only
+     * prioritised once.
      * 
      * @param stepAsText
      *            the textual step to match
@@ -123,7 +164,104 @@ public class StepFinder {
      *         {@link PrioritisingStrategy}.
      */
     public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
-        return prioritisingStrategy.prioritise(stepAsText, candidates);
+        Collected collected = collectedAs(candidates);
+        if (collected != null && prioritisingStrategy instanceof StepIndependentPrioritisingStrategy) {
+            return collected.prioritised();
+        }
+        // strategies may prioritise the candidates in place
+        return prioritisingStrategy.prioritise(stepAsText, collected != null ? new ArrayList<StepCandidate>(
+                candidates) : candidates);
+    }
+
+    /**
+     * Returns the prioritised candidates that may match a given step,
+     * combining {@link #candidatesFor(String, List)} and
+     * {@link #prioritise(String, List)}. If the {@link PrioritisingStrategy}
+     * is a {@link StepIndependentPrioritisingStrategy} the candidates
+     * collected are pruned from their prioritised list, without any
+     * prioritising per step.
+     * 
+     * @param stepAsText
+     *            the textual step to match
+     * @param candidates
+     *            the List of StepCandidate
+     * @return The prioritised list of StepCandidate that may match
+     */
+    public List<StepCandidate> prioritiseCandidatesFor(String stepAsText, List<StepCandidate> candidates) {
+        Collected collected = collectedAs(candidates);
+        if (collected == null) {
+            // strategies may prioritise the candidates in place
+            return prioritisingStrategy.prioritise(stepAsText, new ArrayList<StepCandidate>(candidates));
+        }
+        if (prioritisingStrategy instanceof StepIndependentPrioritisingStrategy) {
+            return collected.prioritisedIndex().candidatesFor(stepAsText);
+        }
+        return prioritisingStrategy.prioritise(stepAsText,
+                new ArrayList<StepCandidate>(collected.index().candidatesFor(stepAsText)));
+    }
+
+    private Collected collectedAs(List<StepCandidate> candidates) {
+        for (Collected collected : collectedBySteps.values()) {
+            if (collected.candidates == candidates) {
+                return collected;
+            }
+        }
+        return null;
+    }
+
+    private static class Collected {
+
+        private final List<List<StepCandidate>> sources;
+        private final List<StepCandidate> candidates;
+        private final PrioritisingStrategy prioritisingStrategy;
+        private volatile StepCandidateIndex index;
+        private volatile StepCandidateIndex prioritisedIndex;
+
+        Collected(List<List<StepCandidate>> sources, PrioritisingStrategy prioritisingStrategy) {
+            this.sources = sources;
+            this.prioritisingStrategy = prioritisingStrategy;
+            List<StepCandidate> candidates = new ArrayList<StepCandidate>();
+            for (List<StepCandidate> source : sources) {
+                candidates.addAll(source);
+            }
+            this.candidates = Collections.unmodifiableList(candidates);
+        }
+
+        StepCandidateIndex index() {
+            StepCandidateIndex current = index;
+            if (current == null) {
+                current = new StepCandidateIndex(candidates);
+                index = current;
+            }
+            return current;
+        }
+
+        List<StepCandidate> prioritised() {
+            return prioritisedIndex().candidates();
+        }
+
+        StepCandidateIndex prioritisedIndex() {
+            StepCandidateIndex current = prioritisedIndex;
+            if (current == null) {
+                List<StepCandidate> prioritised = ((StepIndependentPrioritisingStrategy) prioritisingStrategy)
+                        .prioritise(candidates);
+                current = new StepCandidateIndex(Collections.unmodifiableList(prioritised));
+                prioritisedIndex = current;
+            }
+            return current;
+        }
+
+        boolean collectedFrom(List<List<StepCandidate>> sources) {
+            if (this.sources.size() != sources.size()) {
+                return false;
+            }
+            for (int i = 0; i < sources.size(); i++) {
+                if (this.sources.get(i) != sources.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     /**
@@ -135,20 +273,42 @@ public class StepFinder {
 
     }
 
+    /**
+     * Prioritising strategy whose ordering of the candidates does not depend on
+     * the textual step, so that it can be computed once for a list of
+     * candidates and then reused for every step.
+     */
+    public static interface StepIndependentPrioritisingStrategy extends PrioritisingStrategy {
+
+        /**
+         * Prioritises the candidates, without modifying the list given
+         * 
+         * @param candidates the List of StepCandidate
+         * @return A new prioritised List of StepCandidate
+         */
+        List<StepCandidate> prioritise(List<StepCandidate> candidates);
+
+    }
+
     /**
      * Strategy to priorise step candidates by the
      * {@link StepCandidate#getPriority()} field which is settable in the
      * {@link Given}, {@link When}, {@link Then} annotations.
      */
-    public static class ByPriorityField implements PrioritisingStrategy {
+    public static class ByPriorityField implements StepIndependentPrioritisingStrategy {
 
         public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
-            Collections.sort(candidates, new Comparator<StepCandidate>() {
+            return prioritise(candidates);
+        }
+
+        public List<StepCandidate> prioritise(List<StepCandidate> candidates) {
+            List<StepCandidate> prioritised = new ArrayList<StepCandidate>(candidates);
+            Collections.sort(prioritised, new Comparator<StepCandidate>() {
                 public int compare(StepCandidate o1, StepCandidate o2) {
                     return o2.getPriority().compareTo(o1.getPriority());
                 }
             });
-            return candidates;
+            return prioritised;
         }
 
     }
@@ -156,83 +316,125 @@ public class StepFinder {
     /**
      * Strategy to priorise candidate steps by <a
      * href="http://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein Distance</a>
+     * between the step and the pattern of each candidate, stripped of its
+     * parameters, defaulting to the priority field for equal distances. The
+     * scoring pattern of each candidate is computed once and the distances are
+     * cached for each step. The candidates given are not modified.
      */
     public static class ByLevenshteinDistance implements PrioritisingStrategy {
 
-        private LevenshteinDistance ld = new LevenshteinDistance();
+        private static final Pattern PARAMETER_BETWEEN_WHITESPACE = Pattern.compile("\\s\\$\\w+\\s");
+        private static final Pattern PARAMETER = Pattern.compile("\\$\\w+");
+        private static final int MAX_CACHED_STEPS = 1000;
 
-        public List<StepCandidate> prioritise(final String stepAsText, List<StepCandidate> candidates) {
-            Collections.sort(candidates, new Comparator<StepCandidate>() {
-                public int compare(StepCandidate o1, StepCandidate o2) {
-                    String scoringPattern1 = scoringPattern(o1);
-                    String scoringPattern2 = scoringPattern(o2);
-                    String stepWithoutStartingWord = trimStartingWord(stepAsText);
-                    Integer score1 = 0 - ld.calculate(scoringPattern1, stepWithoutStartingWord);
-                    Integer score2 = 0 - ld.calculate(scoringPattern2, stepWithoutStartingWord);
-                    int result = score2.compareTo(score1);
-                    // default to strategy by priority if no score result
-                    return result != 0 ? result : o2.getPriority().compareTo(o1.getPriority());
-                }
+        private final LevenshteinDistance ld = new LevenshteinDistance();
+        private final Map<String, String> scoringPatterns = new ConcurrentHashMap<String, String>();
+        private final Map<String, Map<String, Integer>> distancesByStep = new ConcurrentHashMap<String, Map<String, Integer>>();
 
-                private String scoringPattern(StepCandidate candidate) {
-                    return candidate.getPatternAsString().replaceAll("\\s\\$\\w+\\s", " ").replaceAll("\\$\\w+", "");
+        public List<StepCandidate> prioritise(String stepAsText, List<StepCandidate> candidates) {
+            String stepWithoutStartingWord = trimStartingWord(stepAsText);
+            Map<String, Integer> distances = distancesFor(stepWithoutStartingWord);
+            List<ScoredCandidate> scored = new ArrayList<ScoredCandidate>(candidates.size());
+            int[][] rows = null;
+            for (StepCandidate candidate : candidates) {
+                String scoringPattern = scoringPattern(candidate);
+                Integer distance = distances.get(scoringPattern);
+                if (distance == null) {
+                    if (rows == null) {
+                        // rows of the distance matrix reused for all candidates
+                        rows = new int[2][stepWithoutStartingWord.length() + 1];
+                    }
+                    distance = ld.calculate(scoringPattern, stepWithoutStartingWord, rows[0], rows[1]);
+                    distances.put(scoringPattern, distance);
                 }
+                scored.add(new ScoredCandidate(candidate, distance));
+            }
+            Collections.sort(scored);
+            List<StepCandidate> prioritised = new ArrayList<StepCandidate>(scored.size());
+            for (ScoredCandidate candidate : scored) {
+                prioritised.add(candidate.candidate);
+            }
+            return prioritised;
+        }
 
-                private String trimStartingWord(String stepAsString) {
-                    return StringUtils.substringAfter(stepAsString, " ");
+        private Map<String, Integer> distancesFor(String stepWithoutStartingWord) {
+            Map<String, Integer> distances = distancesByStep.get(stepWithoutStartingWord);
+            if (distances == null) {
+                if (distancesByStep.size() >= MAX_CACHED_STEPS) {
+                    distancesByStep.clear();
                 }
+                distances = new ConcurrentHashMap<String, Integer>();
+                distancesByStep.put(stepWithoutStartingWord, distances);
+            }
+            return distances;
+        }
 
-            });
-            return candidates;
+        private String scoringPattern(StepCandidate candidate) {
+            String pattern = candidate.getPatternAsString();
+            String scoringPattern = scoringPatterns.get(pattern);
+            if (scoringPattern == null) {
+                scoringPattern = PARAMETER.matcher(PARAMETER_BETWEEN_WHITESPACE.matcher(pattern).replaceAll(" "))
+                        .replaceAll("");
+                scoringPatterns.put(pattern, scoringPattern);
+            }
+            return scoringPattern;
+        }
+
+        private String trimStartingWord(String stepAsString) {
+            return StringUtils.substringAfter(stepAsString, " ");
         }
 
-        private class LevenshteinDistance {
+        private static class ScoredCandidate implements Comparable<ScoredCandidate> {
 
-            public int calculate(String s, String t) {
-                int d[][]; // matrix
-                int n; // length of s
-                int m; // length of t
-                int i; // iterates through s
-                int j; // iterates through t
-                char s_i; // ith character of s
-                char t_j; // jth character of t
-                int cost; // cost
+            private final StepCandidate candidate;
+            private final int distance;
+            private final int priority;
 
-                // Step 1
-                n = s.length();
-                m = t.length();
+            ScoredCandidate(StepCandidate candidate, int distance) {
+                this.candidate = candidate;
+                this.distance = distance;
+                this.priority = candidate.getPriority();
+            }
+
+            public int compareTo(ScoredCandidate other) {
+                // lowest distance first, then highest priority
+                if (distance != other.distance) {
+                    return distance < other.distance ? -1 : 1;
+                }
+                return priority == other.priority ? 0 : (priority > other.priority ? -1 : 1);
+            }
+        }
+
+        private static class LevenshteinDistance {
+
+            /**
+             * Calculates the distance keeping only two rows of the distance
+             * matrix, each of at least the length of the second string plus one.
+             */
+            public int calculate(String s, String t, int[] previous, int[] current) {
+                int n = s.length();
+                int m = t.length();
                 if (n == 0) {
                     return m;
                 }
                 if (m == 0) {
                     return n;
                 }
-                d = new int[n + 1][m + 1];
-                // Step 2
-                for (i = 0; i <= n; i++) {
-                    d[i][0] = i;
+                for (int j = 0; j <= m; j++) {
+                    previous[j] = j;
                 }
-                for (j = 0; j <= m; j++) {
-                    d[0][j] = j;
-                }
-                // Step 3
-                for (i = 1; i <= n; i++) {
-                    s_i = s.charAt(i - 1);
-                    // Step 4
-                    for (j = 1; j <= m; j++) {
-                        t_j = t.charAt(j - 1);
-                        // Step 5
-                        if (s_i == t_j) {
-                            cost = 0;
-                        } else {
-                            cost = 1;
-                        }
-                        // Step 6
-                        d[i][j] = minimum(d[i - 1][j] + 1, d[i][j - 1] + 1, d[i - 1][j - 1] + cost);
+                for (int i = 1; i <= n; i++) {
+                    char s_i = s.charAt(i - 1);
+                    current[0] = i;
+                    for (int j = 1; j <= m; j++) {
+                        int cost = s_i == t.charAt(j - 1) ? 0 : 1;
+                        current[j] = minimum(previous[j] + 1, current[j - 1] + 1, previous[j - 1] + cost);
                     }
+                    int[] swapped = previous;
+                    previous = current;
+                    current = swapped;
                 }
-                // Step 7
-                return d[n][m];
+                return previous[m];
             }
 
             private int minimum(int a, int b, int c) {
@@ -245,7 +447,6 @@ public class StepFinder {
                 }
                 return mi;
             }
-
         }
 
     }
@@ -3,7 +3,10 @@ package org.jbehave.core.steps;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
@@ -22,11 +25,14 @@ import org.jbehave.core.annotations.ScenarioType;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.Configuration;
+import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.parsers.RegexPrefixCapturingPatternParser;
 import org.jbehave.core.parsers.StepPatternParser;
 import org.jbehave.core.steps.StepCollector.Stage;
 
+import com.thoughtworks.paranamer.Paranamer;
+
 import static java.util.Arrays.asList;
 import static org.jbehave.core.annotations.AfterScenario.Outcome.ANY;
 import static org.jbehave.core.annotations.AfterScenario.Outcome.FAILURE;
@@ -90,12 +96,19 @@ import static org.jbehave.core.steps.StepType.WHEN;
  * {@link StepCandidate}s that are created, e.g. providing a step monitor or
  * creating them in "dry run" mode.
  * </p>
+ * <p>
+ * The step candidates and the before or after steps are created once and
+ * reused for as long as the components of the {@link Configuration} used to
+ * create them are unchanged, so that the same {@link Steps} instance can be
+ * shared across stories and scenarios.
+ * </p>
  */
 public class Steps implements CandidateSteps {
 
     private final Configuration configuration;
     private Class<?> type;
     private InjectableStepsFactory stepsFactory;
+    private volatile Registry registry;
 
     /**
      * Creates Steps with default configuration for a class extending this
@@ -158,6 +171,16 @@ public class Steps implements CandidateSteps {
     }
 
     public List<StepCandidate> listCandidates() {
+        Registry registry = registry();
+        List<StepCandidate> candidates = registry.candidates;
+        if (candidates == null) {
+            candidates = Collections.unmodifiableList(createCandidates());
+            registry.candidates = candidates;
+        }
+        return candidates;
+    }
+
+    private List<StepCandidate> createCandidates() {
         List<StepCandidate> candidates = new ArrayList<StepCandidate>();
         for (Method method : allMethods()) {
             if (method.isAnnotationPresent(Given.class)) {
@@ -233,24 +256,53 @@ public class Steps implements CandidateSteps {
     }
 
     public List<BeforeOrAfterStep> listBeforeOrAfterStories() {
-        List<BeforeOrAfterStep> steps = new ArrayList<BeforeOrAfterStep>();
-        steps.addAll(stepsHaving(Stage.BEFORE, BeforeStories.class));
-        steps.addAll(stepsHaving(Stage.AFTER, AfterStories.class));
-        return steps;
+        Registry registry = registry();
+        List<BeforeOrAfterStep> steps = registry.beforeOrAfterStories;
+        if (steps == null) {
+            steps = new ArrayList<BeforeOrAfterStep>();
+            steps.addAll(stepsHaving(Stage.BEFORE, BeforeStories.class));
+            steps.addAll(stepsHaving(Stage.AFTER, AfterStories.class));
+            registry.beforeOrAfterStories = steps;
+        }
+        return new ArrayList<BeforeOrAfterStep>(steps);
     }
 
     public List<BeforeOrAfterStep> listBeforeOrAfterStory(boolean givenStory) {
-        List<BeforeOrAfterStep> steps = new ArrayList<BeforeOrAfterStep>();
-        steps.addAll(stepsHaving(Stage.BEFORE, BeforeStory.class, givenStory));
-        steps.addAll(stepsHaving(Stage.AFTER, AfterStory.class, givenStory));
-        return steps;
+        Registry registry = registry();
+        List<BeforeOrAfterStep> steps = registry.beforeOrAfterStory.get(givenStory);
+        if (steps == null) {
+            steps = new ArrayList<BeforeOrAfterStep>();
+            steps.addAll(stepsHaving(Stage.BEFORE, BeforeStory.class, givenStory));
+            steps.addAll(stepsHaving(Stage.AFTER, AfterStory.class, givenStory));
+            registry.beforeOrAfterStory.put(givenStory, steps);
+        }
+        return new ArrayList<BeforeOrAfterStep>(steps);
     }
 
     public List<BeforeOrAfterStep> listBeforeOrAfterScenario(ScenarioType type) {
-        List<BeforeOrAfterStep> steps = new ArrayList<BeforeOrAfterStep>();
-        steps.addAll(scenarioStepsHaving(type, Stage.BEFORE, BeforeScenario.class));
-        steps.addAll(scenarioStepsHaving(type, Stage.AFTER, AfterScenario.class, ANY, SUCCESS, FAILURE));
-        return steps;
+        Registry registry = registry();
+        List<BeforeOrAfterStep> steps = registry.beforeOrAfterScenario.get(type);
+        if (steps == null) {
+            steps = new ArrayList<BeforeOrAfterStep>();
+            steps.addAll(scenarioStepsHaving(type, Stage.BEFORE, BeforeScenario.class));
+            steps.addAll(scenarioStepsHaving(type, Stage.AFTER, AfterScenario.class, ANY, SUCCESS, FAILURE));
+            registry.beforeOrAfterScenario.put(type, steps);
+        }
+        return new ArrayList<BeforeOrAfterStep>(steps);
+    }
+
+    /**
+     * Returns the registry of steps created for the current state of the
+     * configuration, replacing it if any of the configuration components used
+     * to create the steps has changed since it was last created.
+     */
+    private Registry registry() {
+        Registry current = registry;
+        if (current == null || !current.createdWith(configuration)) {
+            current = new Registry(configuration);
+            registry = current;
+        }
+        return current;
     }
 
     private boolean runnableStoryStep(Annotation annotation, boolean givenStory) {
@@ -348,6 +400,45 @@ public class Steps implements CandidateSteps {
         return annotated;
     }
 
+    /**
+     * Holds the steps created for a given state of the configuration. Steps
+     * are created lazily: concurrent callers may create the same steps more
+     * than once, but they will all be equivalent.
+     */
+    private static class Registry {
+
+        private final Keywords keywords;
+        private final StepPatternParser stepPatternParser;
+        private final ParameterConverters parameterConverters;
+        private final ParameterControls parameterControls;
+        private final StepMonitor stepMonitor;
+        private final Paranamer paranamer;
+        private final boolean dryRun;
+
+        private volatile List<StepCandidate> candidates;
+        private volatile List<BeforeOrAfterStep> beforeOrAfterStories;
+        private final Map<Boolean, List<BeforeOrAfterStep>> beforeOrAfterStory = new ConcurrentHashMap<Boolean, List<BeforeOrAfterStep>>();
+        private final Map<ScenarioType, List<BeforeOrAfterStep>> beforeOrAfterScenario = new ConcurrentHashMap<ScenarioType, List<BeforeOrAfterStep>>();
+
+        Registry(Configuration configuration) {
+            this.keywords = configuration.keywords();
+            this.stepPatternParser = configuration.stepPatternParser();
+            this.parameterConverters = configuration.parameterConverters();
+            this.parameterControls = configuration.parameterControls();
+            this.stepMonitor = configuration.stepMonitor();
+            this.paranamer = configuration.paranamer();
+            this.dryRun = configuration.storyControls().dryRun();
+        }
+
+        boolean createdWith(Configuration configuration) {
+            return keywords == configuration.keywords() && stepPatternParser == configuration.stepPatternParser()
+                    && parameterConverters == configuration.parameterConverters()
+                    && parameterControls == configuration.parameterControls()
+                    && stepMonitor == configuration.stepMonitor() && paranamer == configuration.paranamer()
+                    && dryRun == configuration.storyControls().dryRun();
+        }
+    }
+
     @SuppressWarnings("serial")
     public static class DuplicateCandidateFound extends RuntimeException {
 
@@ -0,0 +1,74 @@
+package org.jbehave.core.steps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jbehave.core.configuration.Configuration;
+
+import static java.util.Arrays.asList;
+
+/**
+ * An {@link InjectableStepsFactory} that is provided the types of the steps
+ * and creates their instances, via the default constructor, once per thread.
+ * Steps classes which are not thread-safe can thus be used when scenarios or
+ * examples are run concurrently, as each thread works on its own instances.
+ */
+public class ThreadLocalStepsFactory extends AbstractStepsFactory {
+
+    private final List<Class<?>> types;
+    private final ThreadLocal<Map<Class<?>, Object>> instances = new ThreadLocal<Map<Class<?>, Object>>() {
+        @Override
+        protected Map<Class<?>, Object> initialValue() {
+            return new HashMap<Class<?>, Object>();
+        }
+    };
+
+    public ThreadLocalStepsFactory(Configuration configuration, Class<?>... types) {
+        this(configuration, asList(types));
+    }
+
+    public ThreadLocalStepsFactory(Configuration configuration, List<Class<?>> types) {
+        super(configuration);
+        this.types = new ArrayList<Class<?>>(types);
+    }
+
+    @Override
+    protected List<Class<?>> stepsTypes() {
+        return new ArrayList<Class<?>>(types);
+    }
+
+    public Object createInstanceOfType(Class<?> type) {
+        if (!types.contains(type)) {
+            throw new StepsInstanceNotFound(type, this);
+        }
+        Map<Class<?>, Object> instancesOfThread = instances.get();
+        Object instance = instancesOfThread.get(type);
+        if (instance == null) {
+            instance = instantiate(type);
+            instancesOfThread.put(type, instance);
+        }
+        return instance;
+    }
+
+    private Object instantiate(Class<?> type) {
+        try {
+            return type.newInstance();
+        } catch (InstantiationException e) {
+            throw new StepsInstanceNotCreated(type, e);
+        } catch (IllegalAccessException e) {
+            throw new StepsInstanceNotCreated(type, e);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    public static class StepsInstanceNotCreated extends RuntimeException {
+
+        public StepsInstanceNotCreated(Class<?> type, Throwable cause) {
+            super("Steps instance of type " + type + " could not be created via default constructor", cause);
+        }
+
+    }
+
+}
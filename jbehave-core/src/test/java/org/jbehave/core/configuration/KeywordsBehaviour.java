@@ -1,11 +1,16 @@
 package org.jbehave.core.configuration;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.Map;
 
 import org.jbehave.core.configuration.Keywords.KeywordNotFound;
+import org.jbehave.core.configuration.Keywords.StartingWordNotFound;
+import org.jbehave.core.steps.StepType;
 import org.junit.Test;
 
 public class KeywordsBehaviour {
@@ -37,4 +42,30 @@ public class KeywordsBehaviour {
         new Keywords(new HashMap<String, String>());
     }
 
+    @Test
+    public void shouldFindStartingWordsIncludingSynonymsAndWordsSharingPrefixes() {
+        Map<String, String> words = Keywords.defaultKeywords();
+        words.put(Keywords.GIVEN, "Given|Giveth|Given that");
+        words.put(Keywords.AND, "And|Andy");
+        Keywords keywords = new Keywords(words);
+
+        assertEquals("Given", keywords.startingWord("Given a step", StepType.GIVEN));
+        assertEquals("Giveth", keywords.startingWord("Giveth a step", StepType.GIVEN));
+        assertEquals("Given", keywords.startingWord("Given that step", StepType.GIVEN));
+        assertEquals("that step", keywords.stepWithoutStartingWord("Given that step", StepType.GIVEN));
+        assertEquals("Andy", keywords.startingWord("Andy a step", StepType.WHEN));
+        assertEquals(StepType.GIVEN, keywords.stepTypeFor("Giveth a step"));
+        assertTrue(keywords.isAndStep("Andy a step"));
+        assertFalse(keywords.isAndStep("Andalusia a step"));
+        assertTrue(keywords.isIgnorableStep("!-- a comment"));
+        assertTrue(keywords.hasStartingWord("And a step", StepType.THEN));
+        assertFalse(keywords.hasStartingWord("When a step", StepType.THEN));
+        assertFalse(keywords.hasStartingWord("Given", StepType.GIVEN));
+    }
+
+    @Test(expected = StartingWordNotFound.class)
+    public void shouldFailIfStartingWordOfTypeIsNotFound() {
+        new Keywords().startingWord("When a step", StepType.GIVEN);
+    }
+
 }
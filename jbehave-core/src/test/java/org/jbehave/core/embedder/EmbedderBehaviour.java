@@ -10,6 +10,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import org.jbehave.core.Embeddable;
@@ -25,6 +28,9 @@ import org.jbehave.core.embedder.Embedder.EmbedderFailureStrategy;
 import org.jbehave.core.embedder.Embedder.RunningEmbeddablesFailed;
 import org.jbehave.core.embedder.Embedder.RunningStoriesFailed;
 import org.jbehave.core.embedder.Embedder.ViewGenerationFailed;
+import org.jbehave.core.embedder.StoryManager.InvalidStoryTimeout;
+import org.jbehave.core.embedder.StoryManager.RunningStory;
+import org.jbehave.core.embedder.StoryManager.StoryExecutionFailed;
 import org.jbehave.core.embedder.StoryRunner.State;
 import org.jbehave.core.failures.BatchFailures;
 import org.jbehave.core.failures.FailingUponPendingStep;
@@ -34,7 +40,10 @@ import org.jbehave.core.junit.AnnotatedEmbedderRunner;
 import org.jbehave.core.junit.AnnotatedEmbedderUtils.ClassLoadingFailed;
 import org.jbehave.core.junit.JUnitStory;
 import org.jbehave.core.junit.JUnitStoryMaps;
+import org.jbehave.core.model.Description;
 import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
 import org.jbehave.core.model.StoryDuration;
 import org.jbehave.core.model.StoryMap;
@@ -52,11 +61,14 @@ import org.jbehave.core.steps.StepFinder;
 import org.jbehave.core.steps.Steps;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import com.google.common.util.concurrent.MoreExecutors;
+
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 
@@ -70,6 +82,7 @@ import static org.hamcrest.Matchers.sameInstance;
 
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -460,6 +473,190 @@ public class EmbedderBehaviour {
         assertThatReportsViewGenerated(out);
     }
 
+    @Test
+    public void shouldLoadStoriesConcurrentlyAndRunThemInOrderOfPaths() throws Throwable {
+        // Given
+        StoryRunner runner = mock(StoryRunner.class);
+        EmbedderControls embedderControls = new EmbedderControls().useThreads(2);
+        EmbedderMonitor monitor = mock(EmbedderMonitor.class);
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+        StoryManager storyManager = new StoryManager(configuration, embedderControls, monitor,
+                MoreExecutors.sameThreadExecutor(), stepsFactory, runner);
+        final CountDownLatch bothLoading = new CountDownLatch(2);
+        Answer<Story> loadingConcurrently = new Answer<Story>() {
+            public Story answer(InvocationOnMock invocation) throws Throwable {
+                bothLoading.countDown();
+                if (!bothLoading.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Stories not loaded concurrently");
+                }
+                return new Story((String) invocation.getArguments()[1]);
+            }
+        };
+        when(runner.storyOfPath(configuration, "first.story")).thenAnswer(loadingConcurrently);
+        when(runner.storyOfPath(configuration, "second.story")).thenAnswer(loadingConcurrently);
+
+        // When
+        Map<String, RunningStory> runningStories = storyManager.runningStoriesAsPaths(
+                asList("first.story", "second.story"), new MetaFilter(), null);
+
+        // Then
+        assertThat(runningStories.size(), equalTo(2));
+        InOrder inOrder = inOrder(monitor);
+        inOrder.verify(monitor).runningStory("first.story");
+        inOrder.verify(monitor).runningStory("second.story");
+    }
+
+    @Test
+    public void shouldStopWaitingAsSoonAsAnyStoryFails() throws Throwable {
+        // Given
+        StoryRunner runner = mock(StoryRunner.class);
+        EmbedderControls embedderControls = new EmbedderControls().useThreads(2);
+        EmbedderMonitor monitor = mock(EmbedderMonitor.class);
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        StoryManager storyManager = new StoryManager(configuration, embedderControls, monitor, executorService,
+                stepsFactory, runner);
+        Story slowStory = new Story("slow.story");
+        Story failingStory = new Story("failing.story");
+        final CountDownLatch slowStoryRunning = new CountDownLatch(1);
+        Mockito.doAnswer(new Answer<Object>() {
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                slowStoryRunning.countDown();
+                TimeUnit.SECONDS.sleep(10);
+                return null;
+            }
+        }).when(runner).run(Matchers.eq(configuration), Matchers.eq(stepsFactory), Matchers.eq(slowStory),
+                Matchers.any(MetaFilter.class), Matchers.any(State.class));
+        Mockito.doAnswer(new Answer<Object>() {
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                slowStoryRunning.await(5, TimeUnit.SECONDS);
+                throw new RuntimeException("failing.story failed");
+            }
+        }).when(runner).run(Matchers.eq(configuration), Matchers.eq(stepsFactory), Matchers.eq(failingStory),
+                Matchers.any(MetaFilter.class), Matchers.any(State.class));
+
+        // When
+        long start = System.currentTimeMillis();
+        BatchFailures failures = new BatchFailures();
+        try {
+            storyManager.runningStories(asList(slowStory, failingStory), new MetaFilter(), null);
+            storyManager.waitUntilAllDoneOrFailed(failures);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Then
+        assertThat(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5), is(true));
+        assertThat(failures.size(), equalTo(1));
+        assertThat(failures.get("failing.story"), instanceOf(StoryExecutionFailed.class));
+        assertThat(storyManager.completedStoriesQueued(), equalTo(0));
+    }
+
+    @Test
+    public void shouldMeasureStoryTimeoutFromStartOfEachStory() throws Throwable {
+        // Given
+        StoryRunner runner = mock(StoryRunner.class);
+        EmbedderControls embedderControls = new EmbedderControls().useStoryTimeoutInSecs(2);
+        EmbedderMonitor monitor = mock(EmbedderMonitor.class);
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        StoryManager storyManager = new StoryManager(configuration, embedderControls, monitor, executorService,
+                stepsFactory, runner);
+        Mockito.doAnswer(new Answer<Object>() {
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                TimeUnit.MILLISECONDS.sleep(1200);
+                return null;
+            }
+        }).when(runner).run(Matchers.eq(configuration), Matchers.eq(stepsFactory), Matchers.any(Story.class),
+                Matchers.any(MetaFilter.class), Matchers.any(State.class));
+
+        // When
+        BatchFailures failures = new BatchFailures();
+        try {
+            storyManager.runningStories(asList(new Story("first.story"), new Story("second.story")),
+                    new MetaFilter(), null);
+            storyManager.waitUntilAllDoneOrFailed(failures);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Then
+        assertThat(failures.isEmpty(), is(true));
+        verify(monitor, never()).storyTimeout(Matchers.any(Story.class), Matchers.any(StoryDuration.class));
+    }
+
+    @Test
+    public void shouldCancelStoryUponTimeoutSpecifiedByMeta() throws Throwable {
+        // Given
+        StoryRunner runner = mock(StoryRunner.class);
+        EmbedderControls embedderControls = new EmbedderControls().doIgnoreFailureInStories(true);
+        EmbedderMonitor monitor = mock(EmbedderMonitor.class);
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        StoryManager storyManager = new StoryManager(configuration, embedderControls, monitor, executorService,
+                stepsFactory, runner);
+        Story story = new Story("slow.story", Description.EMPTY, new Meta(asList("timeout 1")), Narrative.EMPTY,
+                new ArrayList<Scenario>());
+        Mockito.doAnswer(new Answer<Object>() {
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                TimeUnit.SECONDS.sleep(10);
+                return null;
+            }
+        }).when(runner).run(Matchers.eq(configuration), Matchers.eq(stepsFactory), Matchers.eq(story),
+                Matchers.any(MetaFilter.class), Matchers.any(State.class));
+
+        // When
+        long start = System.currentTimeMillis();
+        BatchFailures failures = new BatchFailures();
+        try {
+            storyManager.runningStories(asList(story), new MetaFilter(), null);
+            storyManager.waitUntilAllDoneOrFailed(failures);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Then
+        assertThat(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(5), is(true));
+        assertThat(failures.containsKey("slow.story"), is(true));
+        verify(runner).cancelStory(Matchers.eq(story), Matchers.any(StoryDuration.class));
+        verify(monitor).storyTimeout(Matchers.eq(story), Matchers.any(StoryDuration.class));
+    }
+
+    @Test
+    public void shouldFailStoryWithInvalidTimeoutSpecifiedByMeta() throws Throwable {
+        // Given
+        StoryRunner runner = mock(StoryRunner.class);
+        EmbedderControls embedderControls = new EmbedderControls().doIgnoreFailureInStories(true);
+        EmbedderMonitor monitor = mock(EmbedderMonitor.class);
+        Configuration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory stepsFactory = mock(InjectableStepsFactory.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        StoryManager storyManager = new StoryManager(configuration, embedderControls, monitor, executorService,
+                stepsFactory, runner);
+        Story story = new Story("typo.story", Description.EMPTY, new Meta(asList("timeout 5m")), Narrative.EMPTY,
+                new ArrayList<Scenario>());
+
+        // When
+        BatchFailures failures = new BatchFailures();
+        try {
+            storyManager.runningStories(asList(story), new MetaFilter(), null);
+            storyManager.waitUntilAllDoneOrFailed(failures);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Then
+        Throwable failure = failures.get("typo.story");
+        assertThat(failure.getCause(), instanceOf(InvalidStoryTimeout.class));
+        assertThat(failure.getCause().getMessage(), containsString("'5m'"));
+        verify(runner, never()).run(Matchers.any(Configuration.class), Matchers.any(InjectableStepsFactory.class),
+                Matchers.any(Story.class), Matchers.any(MetaFilter.class), Matchers.any(State.class));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void shouldRunStoriesApplyingFilter() throws Throwable {
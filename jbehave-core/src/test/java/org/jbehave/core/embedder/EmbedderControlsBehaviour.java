@@ -29,6 +29,9 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.verboseFiltering(), is(defaultControls.verboseFiltering()));
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(defaultControls.storyTimeoutInSecs()));
         assertThat(embedderControls.threads(), equalTo(defaultControls.threads()));
+        assertThat(embedderControls.parallelScenarios(), is(defaultControls.parallelScenarios()));
+        assertThat(embedderControls.parallelExamples(), is(defaultControls.parallelExamples()));
+        assertThat(embedderControls.scenarioThreads(), equalTo(defaultControls.scenarioThreads()));
 
         System.setProperty(PropertyBasedEmbedderControls.BATCH, "true");
         System.setProperty(PropertyBasedEmbedderControls.GENERATE_VIEW_AFTER_STORIES, "true");
@@ -39,6 +42,9 @@ public class EmbedderControlsBehaviour {
         System.setProperty(PropertyBasedEmbedderControls.VERBOSE_FILTERING, "true");
         System.setProperty(PropertyBasedEmbedderControls.STORY_TIMEOUT_IN_SECS, "500");
         System.setProperty(PropertyBasedEmbedderControls.THREADS, "5");
+        System.setProperty(PropertyBasedEmbedderControls.PARALLEL_SCENARIOS, "true");
+        System.setProperty(PropertyBasedEmbedderControls.PARALLEL_EXAMPLES, "true");
+        System.setProperty(PropertyBasedEmbedderControls.SCENARIO_THREADS, "3");
 
         assertThat(embedderControls.batch(), is(true));
         assertThat(embedderControls.generateViewAfterStories(), is(true));
@@ -49,6 +55,9 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.verboseFiltering(), is(true));
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(500L));
         assertThat(embedderControls.threads(), equalTo(5));
+        assertThat(embedderControls.parallelScenarios(), is(true));
+        assertThat(embedderControls.parallelExamples(), is(true));
+        assertThat(embedderControls.scenarioThreads(), equalTo(3));
     }
     
     @Test
@@ -65,6 +74,9 @@ public class EmbedderControlsBehaviour {
         assertThat(embedderControls.skip(), equalTo(delegate.skip()));
         assertThat(embedderControls.storyTimeoutInSecs(), equalTo(delegate.storyTimeoutInSecs()));
         assertThat(embedderControls.threads(), equalTo(delegate.threads()));
+        assertThat(embedderControls.parallelScenarios(), is(delegate.parallelScenarios()));
+        assertThat(embedderControls.parallelExamples(), is(delegate.parallelExamples()));
+        assertThat(embedderControls.scenarioThreads(), equalTo(delegate.scenarioThreads()));
         assertThatNotAllowed(embedderControls, "doBatch", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doGenerateViewAfterStories", boolean.class, true);
         assertThatNotAllowed(embedderControls, "doIgnoreFailureInStories", boolean.class, true);
@@ -74,6 +86,9 @@ public class EmbedderControlsBehaviour {
         assertThatNotAllowed(embedderControls, "doVerboseFiltering", boolean.class, true);
         assertThatNotAllowed(embedderControls, "useStoryTimeoutInSecs", long.class, 1);
         assertThatNotAllowed(embedderControls, "useThreads", int.class, 1);
+        assertThatNotAllowed(embedderControls, "doParallelScenarios", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "doParallelExamples", boolean.class, true);
+        assertThatNotAllowed(embedderControls, "useScenarioThreads", int.class, 1);
     }
 
     private void assertThatNotAllowed(EmbedderControls unmodifiable, String methodName, Class<?> type, Object value)
@@ -1,9 +1,15 @@
 package org.jbehave.core.embedder;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.annotations.ScenarioType;
 import org.jbehave.core.configuration.Configuration;
@@ -43,6 +49,8 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import static java.util.Arrays.asList;
 
@@ -175,6 +183,110 @@ public class StoryRunnerBehaviour {
         inOrder.verify(failureStrategy).handleFailure(failure);
     }
     
+    @Test
+    public void shouldRunScenariosConcurrentlyAndReportThemInOrderIfStoryOptsIn() throws Throwable {
+        // Given
+        Scenario scenario1 = new Scenario("my title 1", asList("awaitingStep", "failingStep"));
+        Scenario scenario2 = new Scenario("my title 2", asList("successfulStep"));
+        Scenario scenario3 = new Scenario("my title 3", asList("signallingStep"));
+        Story story = new Story("my.story", new Description("my blurb"), new Meta(asList("parallelScenarios")),
+                Narrative.EMPTY, asList(scenario1, scenario2, scenario3));
+        StoryReporter reporter = mock(ConcurrentStoryReporter.class);
+        StepCollector collector = mock(StepCollector.class);
+        CandidateSteps mySteps = new Steps();
+        UUIDExceptionWrapper failure = new UUIDExceptionWrapper(new IllegalArgumentException());
+        final CountDownLatch signalled = new CountDownLatch(1);
+        Step awaitingStep = mock(Step.class, "awaitingStep");
+        when(awaitingStep.perform(Matchers.<UUIDExceptionWrapper>any())).thenAnswer(new Answer<StepResult>() {
+            public StepResult answer(InvocationOnMock invocation) throws Throwable {
+                if (!signalled.await(5, TimeUnit.SECONDS)) {
+                    return failed("awaitingStep", new UUIDExceptionWrapper("Scenarios not run concurrently"));
+                }
+                return successful("awaitingStep");
+            }
+        });
+        Step signallingStep = mock(Step.class, "signallingStep");
+        when(signallingStep.perform(Matchers.<UUIDExceptionWrapper>any())).thenAnswer(new Answer<StepResult>() {
+            public StepResult answer(InvocationOnMock invocation) throws Throwable {
+                signalled.countDown();
+                return successful("signallingStep");
+            }
+        });
+        Step successfulStep = mockSuccessfulStep("successfulStep");
+        Step failingStep = mock(Step.class, "failingStep");
+        when(failingStep.perform(Matchers.<UUIDExceptionWrapper>any())).thenReturn(failed("failingStep", failure));
+        when(collector.collectScenarioSteps(eq(asList(mySteps)), eq(scenario1), Matchers.<Map<String, String>>any()))
+                .thenReturn(asList(awaitingStep, failingStep));
+        when(collector.collectScenarioSteps(eq(asList(mySteps)), eq(scenario2), Matchers.<Map<String, String>>any()))
+                .thenReturn(asList(successfulStep));
+        when(collector.collectScenarioSteps(eq(asList(mySteps)), eq(scenario3), Matchers.<Map<String, String>>any()))
+                .thenReturn(asList(signallingStep));
+        givenStoryWithNoBeforeOrAfterSteps(story, false, collector, mySteps);
+
+        // When
+        FailureStrategy failureStrategy = mock(FailureStrategy.class);
+        StoryRunner runner = new StoryRunner();
+        runner.useEmbedderControls(new EmbedderControls().useScenarioThreads(3));
+        runner.run(configurationWith(reporter, collector, failureStrategy), asList(mySteps), story);
+
+        // Then
+        InOrder inOrder = inOrder(reporter, failureStrategy);
+        inOrder.verify(reporter).beforeStory(story, false);
+        inOrder.verify(reporter).beforeScenario("my title 1");
+        inOrder.verify(reporter).successful("awaitingStep");
+        inOrder.verify(reporter).failed("failingStep", failure);
+        inOrder.verify(reporter).afterScenario();
+        inOrder.verify(reporter).beforeScenario("my title 2");
+        inOrder.verify(reporter).successful("successfulStep");
+        inOrder.verify(reporter).afterScenario();
+        inOrder.verify(reporter).beforeScenario("my title 3");
+        inOrder.verify(reporter).successful("signallingStep");
+        inOrder.verify(reporter).afterScenario();
+        inOrder.verify(reporter).afterStory(false);
+        inOrder.verify(failureStrategy).handleFailure(failure);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldShareScenarioThreadsAcrossStoriesAndRunExamplesOfConcurrentScenariosInSequence()
+            throws Throwable {
+        // Given
+        ExamplesTable examplesTable = new ExamplesTable("|row|\n|first|\n|second|\n");
+        Scenario scenario1 = new Scenario("my title 1", Meta.EMPTY, GivenStories.EMPTY, examplesTable,
+                asList("step <row>"));
+        Scenario scenario2 = new Scenario("my title 2", Meta.EMPTY, GivenStories.EMPTY, examplesTable,
+                asList("step <row>"));
+        Story story = new Story("my.story", new Description("my blurb"), new Meta(asList("parallelScenarios",
+                "parallelExamples")), Narrative.EMPTY, asList(scenario1, scenario2));
+        StoryReporter reporter = mock(ConcurrentStoryReporter.class);
+        StepCollector collector = mock(StepCollector.class);
+        CandidateSteps mySteps = new Steps();
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        Step recordingStep = mock(Step.class, "recordingStep");
+        when(recordingStep.perform(Matchers.<UUIDExceptionWrapper>any())).thenAnswer(new Answer<StepResult>() {
+            public StepResult answer(InvocationOnMock invocation) throws Throwable {
+                threads.add(Thread.currentThread());
+                return successful("recordingStep");
+            }
+        });
+        when(collector.collectScenarioSteps(eq(asList(mySteps)), Matchers.<Scenario>any(),
+                Matchers.<Map<String, String>>any())).thenReturn(asList(recordingStep));
+        givenStoryWithNoBeforeOrAfterSteps(story, false, collector, mySteps);
+
+        // When
+        FailureStrategy failureStrategy = mock(FailureStrategy.class);
+        Configuration configuration = configurationWith(reporter, collector, failureStrategy);
+        StoryRunner runner = new StoryRunner();
+        runner.useEmbedderControls(new EmbedderControls().useScenarioThreads(2));
+        runner.run(configuration, asList(mySteps), story);
+        runner.run(configuration, asList(mySteps), story);
+
+        // Then
+        verify(reporter, times(8)).successful("recordingStep");
+        verify(failureStrategy, never()).handleFailure(Matchers.<Throwable>any());
+        assertThat(threads.size() <= 2, is(true));
+        assertThat(threads.contains(Thread.currentThread()), is(false));
+    }
+
     @Test
     public void shouldRunGivenStoriesAtStoryAndScenarioLevel() throws Throwable {
         // Given
@@ -658,6 +770,132 @@ public class StoryRunnerBehaviour {
     }
 
 
+    @Test
+    public void shouldRunExamplesConcurrentlyAndReportThemInOrderIfScenarioOptsIn() throws Throwable {
+        // Given
+        ExamplesTable examplesTable = new ExamplesTable("|row|\n|first|\n|second|\n|third|\n");
+        Scenario scenario = new Scenario("my title", new Meta(asList("parallelExamples")), GivenStories.EMPTY,
+                examplesTable, asList("step <row>"));
+        Story story = new Story(new Description("my blurb"), Narrative.EMPTY, asList(scenario));
+        StoryReporter reporter = mock(ConcurrentStoryReporter.class);
+        StepCollector collector = mock(StepCollector.class);
+        FailureStrategy failureStrategy = mock(FailureStrategy.class);
+        Configuration configuration = configurationWith(reporter, collector, failureStrategy);
+        CandidateSteps mySteps = new Steps(configuration);
+        final CountDownLatch signalled = new CountDownLatch(1);
+        final Map<String, Step> stepsByRow = new HashMap<String, Step>();
+        Step awaitingStep = mock(Step.class, "first");
+        when(awaitingStep.perform(Matchers.<UUIDExceptionWrapper>any())).thenAnswer(new Answer<StepResult>() {
+            public StepResult answer(InvocationOnMock invocation) throws Throwable {
+                if (!signalled.await(5, TimeUnit.SECONDS)) {
+                    return failed("first", new UUIDExceptionWrapper("Examples not run concurrently"));
+                }
+                return successful("first");
+            }
+        });
+        Step signallingStep = mock(Step.class, "third");
+        when(signallingStep.perform(Matchers.<UUIDExceptionWrapper>any())).thenAnswer(new Answer<StepResult>() {
+            public StepResult answer(InvocationOnMock invocation) throws Throwable {
+                signalled.countDown();
+                return successful("third");
+            }
+        });
+        stepsByRow.put("first", awaitingStep);
+        stepsByRow.put("second", mockSuccessfulStep("second"));
+        stepsByRow.put("third", signallingStep);
+        when(collector.collectScenarioSteps(eq(asList(mySteps)), eq(scenario), Matchers.<Map<String, String>>any()))
+                .thenAnswer(new Answer<List<Step>>() {
+                    @SuppressWarnings("unchecked")
+                    public List<Step> answer(InvocationOnMock invocation) throws Throwable {
+                        Map<String, String> row = (Map<String, String>) invocation.getArguments()[2];
+                        return asList(stepsByRow.get(row.get("row")));
+                    }
+                });
+        givenStoryWithNoBeforeOrAfterSteps(story, false, collector, mySteps);
+
+        // When
+        StoryRunner runner = new StoryRunner();
+        runner.useEmbedderControls(new EmbedderControls().useScenarioThreads(3));
+        runner.run(configuration, asList(mySteps), story);
+
+        // Then
+        InOrder inOrder = inOrder(reporter, failureStrategy);
+        inOrder.verify(reporter).beforeScenario("my title");
+        inOrder.verify(reporter).beforeExamples(asList("step <row>"), examplesTable);
+        inOrder.verify(reporter).successful("first");
+        inOrder.verify(reporter).successful("second");
+        inOrder.verify(reporter).successful("third");
+        inOrder.verify(reporter).afterExamples();
+        inOrder.verify(reporter).afterScenario();
+        verify(reporter, times(3)).example(Matchers.<Map<String, String>>any());
+        for (String row : asList("first", "second", "third")) {
+            Map<String, String> example = new HashMap<String, String>();
+            example.put("row", row);
+            verify(reporter).example(example);
+        }
+        verify(failureStrategy, never()).handleFailure(Matchers.<Throwable>any());
+    }
+
+    @Test
+    public void shouldRunExamplesConcurrentlyHoldingNoMoreRowsThanScenarioThreads() throws Throwable {
+        // Given
+        ExamplesTable examplesTable = new ExamplesTable("|row|\n|first|\n|second|\n|third|\n|fourth|\n|fifth|\n");
+        Scenario scenario = new Scenario("my title", new Meta(asList("parallelExamples")), GivenStories.EMPTY,
+                examplesTable, asList("step <row>"));
+        Story story = new Story(new Description("my blurb"), Narrative.EMPTY, asList(scenario));
+        StoryReporter reporter = mock(ConcurrentStoryReporter.class);
+        StepCollector collector = mock(StepCollector.class);
+        FailureStrategy failureStrategy = mock(FailureStrategy.class);
+        Configuration configuration = configurationWith(reporter, collector, failureStrategy);
+        CandidateSteps mySteps = new Steps(configuration);
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger merged = new AtomicInteger();
+        final AtomicInteger maxNotMerged = new AtomicInteger();
+        Mockito.doAnswer(new Answer<Void>() {
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                merged.incrementAndGet();
+                return null;
+            }
+        }).when(reporter).example(Matchers.<Map<String, String>>any());
+        when(collector.collectScenarioSteps(eq(asList(mySteps)), eq(scenario), Matchers.<Map<String, String>>any()))
+                .thenAnswer(new Answer<List<Step>>() {
+                    @SuppressWarnings("unchecked")
+                    public List<Step> answer(InvocationOnMock invocation) throws Throwable {
+                        final String row = ((Map<String, String>) invocation.getArguments()[2]).get("row");
+                        Step step = mock(Step.class, row);
+                        when(step.perform(Matchers.<UUIDExceptionWrapper>any())).thenAnswer(new Answer<StepResult>() {
+                            public StepResult answer(InvocationOnMock invocation) throws Throwable {
+                                int notMerged = started.incrementAndGet() - merged.get();
+                                synchronized (maxNotMerged) {
+                                    maxNotMerged.set(Math.max(maxNotMerged.get(), notMerged));
+                                }
+                                if (row.equals("first")) {
+                                    // let the other rows run ahead, if not bounded
+                                    Thread.sleep(200);
+                                }
+                                return successful(row);
+                            }
+                        });
+                        return asList(step);
+                    }
+                });
+        givenStoryWithNoBeforeOrAfterSteps(story, false, collector, mySteps);
+
+        // When
+        StoryRunner runner = new StoryRunner();
+        runner.useEmbedderControls(new EmbedderControls().useScenarioThreads(2));
+        runner.run(configuration, asList(mySteps), story);
+
+        // Then
+        InOrder inOrder = inOrder(reporter);
+        for (String row : asList("first", "second", "third", "fourth", "fifth")) {
+            inOrder.verify(reporter).successful(row);
+        }
+        assertThat(merged.get(), is(5));
+        assertThat(maxNotMerged.get() <= 2, is(true));
+        verify(failureStrategy, never()).handleFailure(Matchers.<Throwable>any());
+    }
+
     @Test
     public void shouldRunStepsInDryRunMode() throws Throwable {
         // Given
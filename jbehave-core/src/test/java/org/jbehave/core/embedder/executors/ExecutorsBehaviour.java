@@ -1,13 +1,26 @@
 package org.jbehave.core.embedder.executors;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jbehave.core.embedder.EmbedderControls;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
 
 public class ExecutorsBehaviour {
 
@@ -15,6 +28,127 @@ public class ExecutorsBehaviour {
     public void shouldCreateExecutors() {
         assertThat(new FixedThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
         assertThat(new SameThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
+        assertThat(new VirtualThreadExecutors().create(new EmbedderControls()), instanceOf(ExecutorService.class));
     }
-  
+
+    @Test
+    public void shouldRunAllTasksConcurrentlyIfNotLimited() throws Exception {
+        ExecutorService executor = new VirtualThreadExecutors().create(new EmbedderControls());
+        int tasks = 10;
+        final CountDownLatch allStarted = new CountDownLatch(tasks);
+        List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(executor.submit(new Callable<Boolean>() {
+                public Boolean call() throws Exception {
+                    allStarted.countDown();
+                    return allStarted.await(5, TimeUnit.SECONDS);
+                }
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            assertThat(future.get(), equalTo(true));
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldLimitNumberOfTasksRunningConcurrently() throws Exception {
+        ExecutorService executor = new VirtualThreadExecutors(2).create(new EmbedderControls());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    int now = running.incrementAndGet();
+                    synchronized (maxRunning) {
+                        maxRunning.set(Math.max(maxRunning.get(), now));
+                    }
+                    Thread.sleep(10);
+                    running.decrementAndGet();
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertThat(maxRunning.get(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    public void shouldNotRunTasksInterruptedWhileWaitingForLimit() throws Exception {
+        final List<Thread> threads = new ArrayList<Thread>();
+        ExecutorService delegate = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable);
+                synchronized (threads) {
+                    threads.add(thread);
+                }
+                return thread;
+            }
+        });
+        ExecutorService executor = new VirtualThreadExecutors.LimitedExecutorService(delegate, 1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        Callable<Boolean> task = new Callable<Boolean>() {
+            public Boolean call() throws Exception {
+                int now = running.incrementAndGet();
+                synchronized (maxRunning) {
+                    maxRunning.set(Math.max(maxRunning.get(), now));
+                }
+                try {
+                    return released.await(5, TimeUnit.SECONDS);
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+        Future<Boolean> running1 = executor.submit(task);
+        awaitWaiting(threads, 1);
+        Future<Boolean> waiting = executor.submit(task);
+        // interrupt the task waiting for the permit held by the running one
+        awaitWaiting(threads, 2);
+        threads.get(1).interrupt();
+        try {
+            waiting.get(5, TimeUnit.SECONDS);
+            fail("Interrupted task should have been cancelled");
+        } catch (CancellationException e) {
+            // expected
+        }
+        Future<Boolean> running2 = executor.submit(task);
+        released.countDown();
+        assertThat(running1.get(), equalTo(true));
+        assertThat(running2.get(), equalTo(true));
+        executor.shutdown();
+        assertThat(maxRunning.get(), equalTo(1));
+    }
+
+    private void awaitWaiting(List<Thread> threads, int count) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < timeout) {
+            int waiting = 0;
+            synchronized (threads) {
+                for (Thread thread : threads) {
+                    Thread.State state = thread.getState();
+                    if (state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING) {
+                        waiting++;
+                    }
+                }
+            }
+            if (waiting == count) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Threads not waiting: " + threads);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowNegativeConcurrencyLimit() {
+        new VirtualThreadExecutors(-1);
+    }
+
 }
@@ -4,24 +4,31 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.MethodDescriptor;
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.jbehave.core.annotations.AsParameters;
 import org.jbehave.core.annotations.Parameter;
 import org.jbehave.core.model.ExamplesTable.RowNotFound;
+import org.jbehave.core.model.ExamplesTable.TableFileNotMapped;
 import org.jbehave.core.model.TableTransformers.TableTransformer;
 import org.jbehave.core.steps.ConvertedParameters.ValueNotFound;
 import org.jbehave.core.steps.ParameterConverters;
@@ -38,6 +45,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.fail;
 
 public class ExamplesTableBehaviour {
 
@@ -91,6 +99,183 @@ public class ExamplesTableBehaviour {
         assertThat(table.asString(), equalTo("|one|two|\n|11|12|\n|21|22|\n"));
     }
 
+    @Test
+    public void shouldIterateOverRowsParsedOnDemand() {
+        ExamplesTable table = new ExamplesTable(tableWithCommentsAsString + "|31|\n");
+        assertThat(table.getRowCount(), equalTo(3));
+
+        List<Map<String, String>> rows = new ArrayList<Map<String, String>>();
+        for (Map<String, String> row : table.iterateRows()) {
+            rows.add(row);
+        }
+        assertThat(rows, equalTo(table.getRows()));
+        assertThat(rows.get(2).get("two"), equalTo(""));
+
+        List<String> values = new ArrayList<String>();
+        for (Parameters row : table.iterateRowsAsParameters()) {
+            values.add(row.valueAs("one", String.class));
+        }
+        assertThat(values, equalTo(asList("11", "21", "31")));
+    }
+
+    @Test
+    public void shouldIterateOverModifiedRows() {
+        ExamplesTable table = new ExamplesTable(tableAsString);
+        Map<String, String> values = new HashMap<String, String>();
+        values.put("one", "111");
+        table.withRowValues(0, values);
+
+        List<Map<String, String>> rows = new ArrayList<Map<String, String>>();
+        for (Map<String, String> row : table.iterateRows()) {
+            rows.add(row);
+        }
+        assertThat(rows.size(), equalTo(2));
+        assertThat(rows.get(0).get("one"), equalTo("111"));
+    }
+
+    @Test
+    public void shouldModifyTableViaMapsOfRowValues() {
+        ExamplesTable table = new ExamplesTable(tableAsString + "|31|\n");
+
+        Map<String, String> row = table.getRow(2);
+        assertThat(row.keySet(), equalTo(table.getRow(0).keySet()));
+        assertThat(row.get("two"), equalTo(""));
+        row.put("one", "311");
+        assertThat(table.getRow(2).get("one"), equalTo("311"));
+        table.getRows().get(0).put("two", "122");
+
+        Map<String, String> values = new HashMap<String, String>();
+        values.put("three", "333");
+        table.withRowValues(2, values);
+        assertThat(row.get("three"), equalTo("333"));
+        assertThat(table.asString(), equalTo("|one|two|three|\n|11|122||\n|21|22||\n|311||333|\n"));
+    }
+
+    @Test
+    public void shouldRemoveValuesFromMapsOfRowValues() {
+        ExamplesTable table = new ExamplesTable(tableAsString);
+
+        Map<String, String> row = table.getRow(0);
+        assertThat(row.remove("one"), equalTo("11"));
+        assertThat(row.remove("one"), equalTo(null));
+        assertThat(row.containsKey("one"), is(false));
+        assertThat(row.get("one"), equalTo(null));
+        assertThat(row.size(), equalTo(1));
+        assertThat(row.keySet(), equalTo(Collections.singleton("two")));
+        assertThat(table.getRow(0).get("one"), equalTo(""));
+        row.put("one", "111");
+        assertThat(row.keySet(), equalTo(table.getRow(1).keySet()));
+
+        Iterator<String> headers = table.getRow(1).keySet().iterator();
+        headers.next();
+        headers.remove();
+        assertThat(table.asString(), equalTo("|one|two|\n|111|12|\n||22|\n"));
+    }
+
+    @Test
+    public void shouldModifyTableReadFromMappedDataFileViaMapsOfRowValues() throws IOException {
+        File file = new File("target/tables/modified.table");
+        FileUtils.writeStringToFile(file, tableAsString, "UTF-8");
+        ExamplesTable table = new ExamplesTable("{file=target/tables/modified.table}");
+
+        table.getRow(1).put("two", "222");
+
+        assertThat(table.asString(), equalTo("|one|two|\n|11|12|\n|21|222|\n"));
+    }
+
+    @Test
+    public void shouldReadRowsFromMappedDataFile() throws IOException {
+        File file = new File("target/tables/data.table");
+        FileUtils.writeStringToFile(file, tableWithCommentsAsString.replace("\n", "\r\n") + "|3\u00e9|32|\n", "UTF-8");
+        ExamplesTable table = new ExamplesTableFactory().createExamplesTable("{file=target/tables/data.table}");
+
+        assertThat(table.getHeaders(), equalTo(asList("one", "two")));
+        assertThat(table.getRowCount(), equalTo(3));
+        assertThat(table.getRow(2).get("one"), equalTo("3\u00e9"));
+        assertThat(table.getRow(0).get("two"), equalTo("12"));
+        List<String> values = new ArrayList<String>();
+        for (Map<String, String> row : table.iterateRows()) {
+            values.add(row.get("one"));
+        }
+        assertThat(values, equalTo(asList("11", "21", "3\u00e9")));
+        assertThat(table.asString(), equalTo("|one|two|\n|11|12|\n|21|22|\n|3\u00e9|32|\n"));
+    }
+
+    @Test
+    public void shouldReadRowsFromMappedCsvFile() throws IOException {
+        File file = new File("target/tables/data.csv");
+        FileUtils.writeStringToFile(file, "one,two\n11,12\n21,22\n", "UTF-8");
+        ExamplesTable table = new ExamplesTable("{file=target/tables/data.csv}");
+
+        assertThat(table.getHeaders(), equalTo(asList("one", "two")));
+        assertThat(table.getRowCount(), equalTo(2));
+        assertThat(table.getRowAsParameters(1).valueAs("two", Integer.class), equalTo(22));
+    }
+
+    @Test
+    public void shouldKeepEmptyFirstAndLastValuesOfRowsFromMappedCsvFile() throws IOException {
+        File file = new File("target/tables/empty.csv");
+        FileUtils.writeStringToFile(file, "one,two,three\n,b,c\na,b,\n,,\n", "UTF-8");
+        ExamplesTable table = new ExamplesTable("{file=target/tables/empty.csv}");
+
+        assertThat(table.getRowCount(), equalTo(3));
+        assertThat(table.getRow(0), equalTo(rowOf("", "b", "c")));
+        assertThat(table.getRow(1), equalTo(rowOf("a", "b", "")));
+        assertThat(table.getRow(2), equalTo(rowOf("", "", "")));
+    }
+
+    @Test
+    public void shouldReadQuotedValuesOfRowsFromMappedCsvFile() throws IOException {
+        File file = new File("target/tables/quoted.csv");
+        FileUtils.writeStringToFile(file, "one,two,three\n\"a, b\", \"say \"\"hi\"\"\" ,\" c \"\n", "UTF-8");
+        ExamplesTable table = new ExamplesTable("{file=target/tables/quoted.csv}");
+
+        assertThat(table.getRow(0), equalTo(rowOf("a, b", "say \"hi\"", " c ")));
+    }
+
+    @Test
+    public void shouldFindDataFileAsClasspathResourceWithoutContextClassLoader() throws IOException {
+        File file = new File(getClass().getResource("/").getFile(), "tables/resource.table");
+        FileUtils.writeStringToFile(file, tableAsString, "UTF-8");
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(null);
+        try {
+            ExamplesTable table = new ExamplesTable("{file=tables/resource.table}");
+            assertThat(table.getRowCount(), equalTo(2));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private Map<String, String> rowOf(String one, String two, String three) {
+        Map<String, String> row = new LinkedHashMap<String, String>();
+        row.put("one", one);
+        row.put("two", two);
+        row.put("three", three);
+        return row;
+    }
+
+    @Test(expected = TableFileNotMapped.class)
+    public void shouldFailIfDataFileCannotBeMapped() {
+        new ExamplesTable("{file=target/tables/inexistent.table}");
+    }
+
+    @Test
+    public void shouldFailIfDataFileEncodingIsNotAsciiCompatible() throws IOException {
+        File file = new File("target/tables/utf16.table");
+        FileUtils.writeStringToFile(file, tableAsString, "UTF-16");
+        try {
+            new ExamplesTable("{file=target/tables/utf16.table, encoding=UTF-16}");
+            fail("Exception was not thrown");
+        } catch (TableFileNotMapped e) {
+            assertThat(e.getMessage(), containsString("encoding UTF-16"));
+        }
+        FileUtils.writeStringToFile(file, tableAsString, "ISO-8859-1");
+        ExamplesTable table = new ExamplesTable("{file=target/tables/utf16.table, encoding=ISO-8859-1}");
+        assertThat(table.asString(), equalTo(tableAsString));
+    }
+
     @Test
     public void shouldParseTableWithCommentsInValues() {
         String tableWithEmptyValues = "{commentSeparator=#}\n|one #comment|two|\n |11 #comment|12 #comment|\n |21|22|\n";
@@ -0,0 +1,123 @@
+package org.jbehave.core.parsers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+
+public class CachingStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    @Test
+    public void shouldParseStoryOfSamePathAndTextOnlyOnce() {
+        StoryParser delegate = spy(new RegexStoryParser());
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        Story story = parser.parseStory(storyAsText, "path/to/a.story");
+        Story cached = parser.parseStory(new String(storyAsText), "path/to/a.story");
+
+        assertThat(cached, sameInstance(story));
+        assertThat(cached.getScenarios().get(0).getTitle(), equalTo("a scenario"));
+        verify(delegate, times(1)).parseStory(storyAsText, "path/to/a.story");
+    }
+
+    @Test
+    public void shouldParseStoryAgainIfTextChangesOrCacheIsCleared() {
+        StoryParser delegate = spy(new RegexStoryParser());
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+        String changedAsText = "Scenario: a changed scenario" + NL + "Given a step";
+
+        Story story = parser.parseStory(storyAsText, "path/to/a.story");
+        Story changed = parser.parseStory(changedAsText, "path/to/a.story");
+        assertThat(changed, not(sameInstance(story)));
+        assertThat(changed.getScenarios().get(0).getTitle(), equalTo("a changed scenario"));
+
+        parser.clear();
+        assertThat(parser.parseStory(changedAsText, "path/to/a.story"), not(sameInstance(changed)));
+        verify(delegate, times(2)).parseStory(changedAsText, "path/to/a.story");
+    }
+
+    @Test
+    public void shouldNotCacheStoriesWithoutPath() {
+        StoryParser delegate = spy(new RegexStoryParser());
+        CachingStoryParser parser = new CachingStoryParser(delegate);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        parser.parseStory(storyAsText);
+        parser.parseStory(storyAsText);
+
+        verify(delegate, times(2)).parseStory(storyAsText);
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyParsedStoriesBeyondMaxCachedStories() {
+        StoryParser delegate = spy(new RegexStoryParser());
+        CachingStoryParser parser = new CachingStoryParser(delegate, 2);
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step";
+
+        parser.parseStory(storyAsText, "path/to/a.story");
+        parser.parseStory(storyAsText, "path/to/b.story");
+        parser.parseStory(storyAsText, "path/to/a.story");
+        parser.parseStory(storyAsText, "path/to/c.story");
+        parser.parseStory(storyAsText, "path/to/a.story");
+        parser.parseStory(storyAsText, "path/to/b.story");
+
+        assertThat(parser.size(), equalTo(2));
+        verify(delegate, times(1)).parseStory(storyAsText, "path/to/a.story");
+        verify(delegate, times(2)).parseStory(storyAsText, "path/to/b.story");
+    }
+
+    @Test
+    public void shouldAllowCachedStoryToBeUsedConcurrently() throws Exception {
+        StringBuilder table = new StringBuilder("|row|").append(NL);
+        for (int row = 0; row < 100; row++) {
+            table.append("|").append(row).append("|").append(NL);
+        }
+        String storyAsText = "Scenario: a scenario" + NL + "Given a step with <row>" + NL + "Examples:" + NL
+                + table;
+        CachingStoryParser parser = new CachingStoryParser(new RegexStoryParser(new LocalizedKeywords(),
+                new ExamplesTableFactory(), true));
+        final Story story = parser.parseStory(storyAsText, "path/to/a.story");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<List<Map<String, String>>>> futures = new ArrayList<Future<List<Map<String, String>>>>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(new Callable<List<Map<String, String>>>() {
+                public List<Map<String, String>> call() throws Exception {
+                    Scenario scenario = story.getScenarios().get(0);
+                    assertThat(scenario.getSteps().size(), equalTo(1));
+                    return scenario.getExamplesTable().getRows();
+                }
+            }));
+        }
+        executor.shutdown();
+
+        assertThat(parser.parseStory(storyAsText, "path/to/a.story"), sameInstance(story));
+        for (Future<List<Map<String, String>>> future : futures) {
+            List<Map<String, String>> rows = future.get();
+            assertThat(rows.size(), equalTo(100));
+            assertThat(rows.get(99).get("row"), equalTo("99"));
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.jbehave.core.parsers;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.ExamplesTableFactory;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class LazyScenariosRegexStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    @Override
+    protected StoryParser storyParser(Keywords keywords) {
+        return new RegexStoryParser(keywords, new ExamplesTableFactory(), true);
+    }
+
+    @Test
+    public void shouldParseStepsAndExamplesTableOnlyUponAccess() {
+        ExamplesTableFactory tableFactory = mock(ExamplesTableFactory.class);
+        StoryParser parser = new RegexStoryParser(new LocalizedKeywords(), tableFactory, true);
+        String wholeStory = "Scenario: A scenario" + NL +
+                "Meta: @skip" + NL +
+                "Given a step" + NL +
+                "Examples:" + NL +
+                "|one|" + NL +
+                "|11|";
+
+        Story story = parser.parseStory(wholeStory, "path/to/a.story");
+
+        Scenario scenario = story.getScenarios().get(0);
+        assertThat(scenario.getTitle(), equalTo("A scenario"));
+        assertThat(scenario.getMeta().hasProperty("skip"), equalTo(true));
+        assertThat(scenario.asMeta("scenario_").getProperty("scenario_examplesTable"), equalTo("|one|" + NL + "|11|"));
+        verifyZeroInteractions(tableFactory);
+
+        assertThat(scenario.getSteps(), equalTo(asList("Given a step")));
+        scenario.getExamplesTable();
+        verify(tableFactory).createExamplesTable("|one|" + NL + "|11|");
+    }
+
+}
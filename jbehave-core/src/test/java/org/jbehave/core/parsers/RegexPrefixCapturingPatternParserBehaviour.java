@@ -1,9 +1,12 @@
 package org.jbehave.core.parsers;
 
+import java.util.regex.Pattern;
+
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 import org.jbehave.core.steps.StepType;
 import org.junit.Test;
@@ -53,33 +56,66 @@ public class RegexPrefixCapturingPatternParserBehaviour {
     public void shouldEscapeExistingRegexPunctuationUsedInPatterns() {
         StepMatcher aMatcherWithAllTheRegexPunctuation = parser
                 .parseStep(StepType.GIVEN, "$regexp should not be confused by []{}?^.*()+\\");
-        assertThat(aMatcherWithAllTheRegexPunctuation.matches("[]{}?^.*()+\\ should not be confused by []{}?^.*()+\\"),
-                is(true));
-        assertThat(aMatcherWithAllTheRegexPunctuation.parameter(1), equalTo("[]{}?^.*()+\\"));
+        StepMatch match = aMatcherWithAllTheRegexPunctuation.matches("[]{}?^.*()+\\ should not be confused by []{}?^.*()+\\");
+        assertThat(match.matched(), is(true));
+        assertThat(match.parameter(1), equalTo("[]{}?^.*()+\\"));
     }
 
     private void assertThatPatternMatchesStep(StepPatternParser parser, String pattern, String step,
             String... parametersNames) {
         StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, pattern);
-        assertThat(stepMatcher.matches(step), is(true));
+        assertThat(stepMatcher.matches(step).matched(), is(true));
         assertThat(stepMatcher.parameterNames(), equalTo(parametersNames));
     }
 
+    @Test
+    public void shouldReturnMatchesIndependentOfOneAnother() {
+        StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, "a stock of symbol $symbol");
+        StepMatch first = stepMatcher.matches("a stock of symbol STK1");
+        StepMatch second = stepMatcher.find("a stock of symbol STK2");
+        StepMatch none = stepMatcher.matches("a share of symbol STK3");
+        assertThat(first.parameter(1), equalTo("STK1"));
+        assertThat(second.parameter(1), equalTo("STK2"));
+        assertThat(none.matched(), is(false));
+    }
+
+    @Test
+    public void shouldProvideLiteralPrefixOfPatterns() {
+        assertThat(literalPrefixOf("a user named $name"), equalTo("a user named "));
+        assertThat(literalPrefixOf("a  user\nnamed"), equalTo("a user named"));
+        assertThat(literalPrefixOf("$name is a user"), equalTo(""));
+        assertThat(literalPrefixOf("a price of 1.5 (in $currency)"), equalTo("a price of 1.5 (in "));
+        assertThat(literalPrefixOf("a (user|admin) named $name"), nullValue());
+        assertThat(new RegexStepMatcher(StepType.GIVEN, "users?", Pattern.compile("users?"),
+                new String[0]).literalPrefix(), equalTo("user"));
+        assertThat(new RegexStepMatcher(StepType.GIVEN, "a+b", Pattern.compile("a+b"),
+                new String[0]).literalPrefix(), equalTo("a"));
+        assertThat(new RegexStepMatcher(StepType.GIVEN, "a user", Pattern.compile("a user",
+                Pattern.CASE_INSENSITIVE), new String[0]).literalPrefix(), nullValue());
+    }
+
+    private String literalPrefixOf(String pattern) {
+        return ((RegexStepMatcher) parser.parseStep(StepType.GIVEN, pattern)).literalPrefix();
+    }
+
     @Test
     public void shouldNotCareSoMuchAboutWhitespace() {
         StepMatcher stepMatcher = parser.parseStep(StepType.GIVEN, "The grid looks like $grid");
 
         // Given an argument on a new line
-        assertThat(stepMatcher.matches("The grid looks like\n" + "..\n" + "..\n"), is(true));
-        assertThat(stepMatcher.parameter(1), equalTo("..\n" + "..\n"));
+        StepMatch match = stepMatcher.matches("The grid looks like\n" + "..\n" + "..\n");
+        assertThat(match.matched(), is(true));
+        assertThat(match.parameter(1), equalTo("..\n" + "..\n"));
 
         // Given an argument on a new line with extra spaces
-        assertThat(stepMatcher.matches("The grid looks like \n" + "..\n" + "..\n"), is(true));
-        assertThat(stepMatcher.parameter(1), equalTo("..\n" + "..\n"));
+        match = stepMatcher.matches("The grid looks like \n" + "..\n" + "..\n");
+        assertThat(match.matched(), is(true));
+        assertThat(match.parameter(1), equalTo("..\n" + "..\n"));
 
         // Given an argument with extra spaces
-        assertThat(stepMatcher.matches("The grid looks like  ."), is(true));
-        assertThat(stepMatcher.parameter(1), equalTo("."));
+        match = stepMatcher.matches("The grid looks like  .");
+        assertThat(match.matched(), is(true));
+        assertThat(match.parameter(1), equalTo("."));
     }
 
     @Test
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.jbehave.core.configuration.Keywords;
 import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.model.Description;
 import org.jbehave.core.model.ExamplesTable;
@@ -32,9 +33,13 @@ import static org.hamcrest.Matchers.nullValue;
 public class RegexStoryParserBehaviour {
 
     private static final String NL = "\n";
-    private StoryParser parser = new RegexStoryParser(new LocalizedKeywords());
+    private StoryParser parser = storyParser(new LocalizedKeywords());
     private String storyPath = "path/to/my.story";
 
+    protected StoryParser storyParser(Keywords keywords) {
+        return new RegexStoryParser(keywords);
+    }
+
     @Test
     public void shouldParseStoryAndProvideNameFromPath() {
         Story story = parser.parseStory("", storyPath);
@@ -162,7 +167,7 @@ public class RegexStoryParserBehaviour {
 
     @Test
     public void shouldParseStoryWithSynonymsOfStartingWords() {
-        StoryParser parser = new RegexStoryParser(new LocalizedKeywords(new Locale("sy")));
+        StoryParser parser = storyParser(new LocalizedKeywords(new Locale("sy")));
 
         String wholeStory = "Given a scenario" + NL +
                 "When I parse it" + NL +
@@ -184,6 +189,33 @@ public class RegexStoryParserBehaviour {
         assertThat(steps.get(6), equalTo("With a merry go round"));
     }
 
+    @Test
+    public void shouldParseStoriesInDifferentLocalesWithParsersSharingKeywords() {
+        Keywords german = new LocalizedKeywords(Locale.GERMAN);
+        Keywords english = new LocalizedKeywords(Locale.ENGLISH);
+        String germanStory = "Szenario: Ein Szenario" + NL +
+                "Gegeben ein Szenario" + NL +
+                "Wenn ich es parse" + NL +
+                "Dann erhalte ich Schritte";
+        String englishStory = "Scenario: A scenario" + NL +
+                "Given a scenario" + NL +
+                "When I parse it" + NL +
+                "Then I should get steps";
+
+        for (StoryParser parser : asList(storyParser(german), storyParser(german))) {
+            Scenario scenario = parser.parseStory(germanStory, storyPath).getScenarios().get(0);
+            assertThat(scenario.getTitle(), equalTo("Ein Szenario"));
+            assertThat(scenario.getSteps(), equalTo(asList("Gegeben ein Szenario", "Wenn ich es parse",
+                    "Dann erhalte ich Schritte")));
+        }
+        for (StoryParser parser : asList(storyParser(english), storyParser(english))) {
+            Scenario scenario = parser.parseStory(englishStory, storyPath).getScenarios().get(0);
+            assertThat(scenario.getTitle(), equalTo("A scenario"));
+            assertThat(scenario.getSteps(), equalTo(asList("Given a scenario", "When I parse it",
+                    "Then I should get steps")));
+        }
+    }
+
     @Test
     public void shouldParseStoryWithGivenStoriesAtStoryAndScenarioLevel() {
         String wholeStory = "GivenStories: GivenAPreconditionToStory" + NL +
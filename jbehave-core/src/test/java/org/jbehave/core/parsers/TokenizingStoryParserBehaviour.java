@@ -0,0 +1,41 @@
+package org.jbehave.core.parsers;
+
+import java.util.List;
+
+import org.jbehave.core.configuration.Keywords;
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class TokenizingStoryParserBehaviour extends RegexStoryParserBehaviour {
+
+    private static final String NL = "\n";
+
+    @Override
+    protected StoryParser storyParser(Keywords keywords) {
+        return new TokenizingStoryParser(keywords);
+    }
+
+    @Test
+    public void shouldRecogniseKeywordsOnlyAtStartOfLines() {
+        String wholeStory = "Scenario: A scenario about Scenario: and Meta: keywords" + NL +
+                "Given a step mentioning Scenario: in its text" + NL +
+                "Then the step mentions Examples: too";
+        Story story = storyParser(new LocalizedKeywords()).parseStory(wholeStory, null);
+
+        List<Scenario> scenarios = story.getScenarios();
+        assertThat(scenarios.size(), equalTo(1));
+        assertThat(scenarios.get(0).getTitle(), equalTo("A scenario about Scenario: and Meta: keywords"));
+        assertThat(scenarios.get(0).getSteps(), equalTo(asList(
+                "Given a step mentioning Scenario: in its text",
+                "Then the step mentions Examples: too")));
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.jbehave.core.reporters;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class BufferedStoryReporterBehaviour {
+
+    @Test
+    public void shouldReplayBufferedEventsInOrder() {
+        // Given
+        StoryReporter delegate = mock(StoryReporter.class);
+        BufferedStoryReporter buffer = new BufferedStoryReporter();
+        Throwable cause = new IllegalStateException();
+
+        // When
+        StoryReporter reporter = buffer.reporter();
+        reporter.beforeScenario("a scenario");
+        reporter.successful("Given a step");
+        reporter.failed("When a step fails", cause);
+        reporter.afterScenario();
+
+        // Then
+        verifyZeroInteractions(delegate);
+        buffer.replayTo(delegate);
+        InOrder inOrder = inOrder(delegate);
+        inOrder.verify(delegate).beforeScenario("a scenario");
+        inOrder.verify(delegate).successful("Given a step");
+        inOrder.verify(delegate).failed("When a step fails", cause);
+        inOrder.verify(delegate).afterScenario();
+    }
+
+}
@@ -4,6 +4,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +29,19 @@ public class InstanceStepsFactoryBehaviour {
         assertThat((String)converters.convert("value", String.class), equalTo("valueConverted"));
     }    
 
+    @Test
+    public void shouldReuseCandidateStepsAndCandidatesAcrossCalls() {
+        MostUsefulConfiguration configuration = new MostUsefulConfiguration();
+        InjectableStepsFactory factory = new InstanceStepsFactory(configuration, new MySteps());
+        CandidateSteps steps = factory.createCandidateSteps().get(0);
+        List<StepCandidate> candidates = steps.listCandidates();
+        assertThat(factory.createCandidateSteps().get(0), sameInstance(steps));
+        assertThat(steps.listCandidates(), sameInstance(candidates));
+        configuration.useKeywords(new MostUsefulConfiguration().keywords());
+        assertThat(steps.listCandidates(), not(sameInstance(candidates)));
+        assertThat(steps.listCandidates().size(), equalTo(candidates.size()));
+    }
+
     @Test
     public void shouldDetermineIfStepsInstanceHasAnnotatedMethods() {
         InstanceStepsFactory factory = new InstanceStepsFactory(new MostUsefulConfiguration());
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 
@@ -14,8 +15,10 @@ import org.jbehave.core.annotations.BeforeScenario;
 import org.jbehave.core.annotations.BeforeStory;
 import org.jbehave.core.annotations.Named;
 import org.jbehave.core.annotations.ScenarioType;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
 import org.jbehave.core.failures.PendingStepFound;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
+import org.jbehave.core.i18n.LocalizedKeywords;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.model.Scenario;
 import org.jbehave.core.model.Story;
@@ -41,6 +44,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class MarkUnmatchedStepsAsPendingBehaviour {
@@ -200,6 +204,104 @@ public class MarkUnmatchedStepsAsPendingBehaviour {
 
     }
 
+    @Test
+    public void shouldResolveRepeatedStepsFromCache() {
+        // Given
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending();
+
+        StepCandidate otherCandidate = mock(StepCandidate.class, "otherCandidate");
+        StepCandidate candidate = mock(StepCandidate.class, "candidate");
+        CandidateSteps steps = mock(Steps.class);
+        CacheAwareStepMonitor stepMonitor = mock(CacheAwareStepMonitor.class);
+        Step executableStep = mock(Step.class);
+
+        String stepAsString = "Given my step";
+        String pendingStepAsString = "Given my pending step";
+        when(candidate.matches(stepAsString)).thenReturn(true);
+        when(candidate.createMatchedStep(stepAsString, parameters)).thenReturn(executableStep);
+        when(steps.listCandidates()).thenReturn(asList(otherCandidate, candidate));
+        when(steps.configuration()).thenReturn(new MostUsefulConfiguration().useStepMonitor(stepMonitor));
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            List<Step> executableSteps = stepCollector.collectScenarioSteps(asList(steps), new Scenario(
+                    asList(stepAsString, pendingStepAsString)), parameters);
+            assertThat(executableSteps.get(0), equalTo(executableStep));
+            assertIsPending(executableSteps.get(1), pendingStepAsString, stepAsString);
+        }
+
+        // Then resolutions found in the cache are not matched again
+        verify(otherCandidate, times(1)).matches(stepAsString);
+        verify(otherCandidate, times(1)).matches(pendingStepAsString, stepAsString);
+        verify(candidate, times(1)).matches(stepAsString);
+        verify(candidate, times(1)).matches(pendingStepAsString, stepAsString);
+        verify(stepMonitor).resolvedStep(stepAsString, false, 0, 1);
+        verify(stepMonitor).resolvedStep(pendingStepAsString, false, 0, 2);
+        verify(stepMonitor).resolvedStep(stepAsString, true, 1, 2);
+        verify(stepMonitor).resolvedStep(pendingStepAsString, true, 4, 2);
+    }
+
+    @Test
+    public void shouldResolveRepeatedStepsFromCacheWithStepMonitorNotAwareOfCache() {
+        // Given
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending();
+
+        StepCandidate candidate = mock(StepCandidate.class, "candidate");
+        CandidateSteps steps = mock(Steps.class);
+        StepMonitor stepMonitor = mock(StepMonitor.class);
+        Step executableStep = mock(Step.class);
+
+        String stepAsString = "Given my step";
+        when(candidate.matches(stepAsString)).thenReturn(true);
+        when(candidate.createMatchedStep(stepAsString, parameters)).thenReturn(executableStep);
+        when(steps.listCandidates()).thenReturn(asList(candidate));
+        when(steps.configuration()).thenReturn(new MostUsefulConfiguration().useStepMonitor(stepMonitor));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            List<Step> executableSteps = stepCollector.collectScenarioSteps(asList(steps), new Scenario(
+                    asList(stepAsString)), parameters);
+            assertThat(executableSteps.get(0), equalTo(executableStep));
+        }
+
+        // Then
+        verify(candidate, times(1)).matches(stepAsString);
+        verifyZeroInteractions(stepMonitor);
+    }
+
+    @Test
+    public void shouldNotReuseCachedResolutionOfAndStepAfterStepOfOtherTypeWithLocalizedKeywords() {
+        // Given
+        StepCollector stepCollector = new MarkUnmatchedStepsAsPending();
+
+        StepCandidate givenCandidate = mock(StepCandidate.class, "givenCandidate");
+        StepCandidate whenCandidate = mock(StepCandidate.class, "whenCandidate");
+        CandidateSteps steps = mock(Steps.class);
+        Step givenStep = mock(Step.class, "givenStep");
+        Step whenStep = mock(Step.class, "whenStep");
+        Step andStep = mock(Step.class, "andStep");
+
+        when(givenCandidate.matches("Gegeben mein Schritt")).thenReturn(true);
+        when(givenCandidate.createMatchedStep("Gegeben mein Schritt", parameters)).thenReturn(givenStep);
+        when(whenCandidate.matches("Wenn mein Schritt")).thenReturn(true);
+        when(whenCandidate.createMatchedStep("Wenn mein Schritt", parameters)).thenReturn(whenStep);
+        when(whenCandidate.matches("Und noch ein Schritt", "Wenn mein Schritt")).thenReturn(true);
+        when(whenCandidate.createMatchedStep("Und noch ein Schritt", parameters)).thenReturn(andStep);
+        when(steps.listCandidates()).thenReturn(asList(givenCandidate, whenCandidate));
+        when(steps.configuration()).thenReturn(
+                new MostUsefulConfiguration().useKeywords(new LocalizedKeywords(new Locale("de"))));
+
+        // When
+        List<Step> afterGiven = stepCollector.collectScenarioSteps(asList(steps),
+                new Scenario(asList("Gegeben mein Schritt", "Und noch ein Schritt")), parameters);
+        List<Step> afterWhen = stepCollector.collectScenarioSteps(asList(steps),
+                new Scenario(asList("Wenn mein Schritt", "Und noch ein Schritt")), parameters);
+
+        // Then
+        assertIsPending(afterGiven.get(1), "Und noch ein Schritt", "Gegeben mein Schritt");
+        assertThat(afterWhen.get(1), equalTo(andStep));
+    }
+
     @Test
     public void shouldCreateIgnorableSteps() {
         // Given
@@ -11,6 +11,7 @@ import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
@@ -18,6 +19,10 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -37,6 +42,7 @@ import org.jbehave.core.steps.ParameterConverters.ParameterConvertionFailed;
 import org.jbehave.core.steps.ParameterConverters.StringListConverter;
 import org.jbehave.core.steps.SomeSteps.MyParameters;
 import org.junit.Test;
+import org.mockito.Matchers;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -46,6 +52,9 @@ import static org.hamcrest.Matchers.is;
 
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ParameterConvertersBehaviour {
 
@@ -77,6 +86,58 @@ public class ParameterConvertersBehaviour {
         }
     }
 
+    @Test
+    public void shouldReportConversionsToStepMonitorsNotAwareOfCache() {
+        // Given
+        final List<Object> converted = new ArrayList<Object>();
+        StepMonitor nullMonitor = new NullStepMonitor() {
+            @Override
+            public void convertedValueOfType(String value, Type type, Object convertedValue, Class<?> converterClass) {
+                converted.add(convertedValue);
+            }
+        };
+        StepMonitor monitor = mock(StepMonitor.class);
+
+        // When
+        new ParameterConverters(nullMonitor).convert("1", Integer.class);
+        new ParameterConverters(new DelegatingStepMonitor(nullMonitor)).convert("2", Integer.class);
+        new ParameterConverters(monitor).convert("3", Integer.class);
+
+        // Then
+        assertThat(converted, equalTo(Arrays.<Object>asList(1, 2)));
+        verify(monitor).convertedValueOfType(Matchers.eq("3"), Matchers.eq(Integer.class), Matchers.eq(3),
+                Matchers.<Class<?>>any());
+    }
+
+    @Test
+    public void shouldResolveConvertersByTypeOnceUntilConvertersAreAdded() {
+        // Given
+        CacheAwareStepMonitor monitor = mock(CacheAwareStepMonitor.class);
+        ParameterConverters converters = new ParameterConverters(monitor);
+        ParameterConverter numberConverter = mock(ParameterConverter.class);
+        when(numberConverter.accept(Integer.class)).thenReturn(true);
+        when(numberConverter.convertValue("1", Integer.class)).thenReturn(1);
+        converters.addConverters(numberConverter);
+
+        // When
+        converters.convert("1", Integer.class);
+        converters.convert("1", Integer.class);
+
+        // Then
+        verify(numberConverter, times(1)).accept(Integer.class);
+        verify(monitor).convertedValueOfType("1", Integer.class, 1, numberConverter.getClass(), false, 0, 1);
+        verify(monitor).convertedValueOfType("1", Integer.class, 1, numberConverter.getClass(), true, 1, 1);
+
+        // When
+        ParameterConverter otherConverter = mock(ParameterConverter.class);
+        when(otherConverter.accept(Integer.class)).thenReturn(true);
+        when(otherConverter.convertValue("1", Integer.class)).thenReturn(2);
+        converters.addConverters(otherConverter);
+
+        // Then
+        assertThat((Integer) converters.convert("1", Integer.class), equalTo(2));
+    }
+
     @Test
     public void shouldConvertValuesToNumbersWithDefaultNumberFormat() {
         NumberConverter converter = new NumberConverter();
@@ -363,6 +424,25 @@ public class ParameterConvertersBehaviour {
         converter.convertValue(date, type);
     }
 
+    @Test
+    public void shouldConvertDatesInMultipleThreads() throws Exception {
+        final ParameterConverter converter = new DateConverter();
+        final Date expected = new SimpleDateFormat("dd/MM/yyyy").parse("01/02/2010");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Date>> dates = new ArrayList<Future<Date>>();
+        for (int i = 0; i < 200; i++) {
+            dates.add(executor.submit(new Callable<Date>() {
+                public Date call() throws Exception {
+                    return (Date) converter.convertValue("01/02/2010", Date.class);
+                }
+            }));
+        }
+        for (Future<Date> date : dates) {
+            assertThat(date.get(), equalTo(expected));
+        }
+        executor.shutdown();
+    }
+
     @Test
     public void shouldConvertMultilineTable() throws ParseException, IntrospectionException {
         ParameterConverter converter = new ExamplesTableConverter();
@@ -467,6 +547,19 @@ public class ParameterConvertersBehaviour {
         converter.convertValue("FOUR", type);
     }
 
+    @Test
+    public void shouldReportFailureOfEnumToConvertValueNotDefined() throws IntrospectionException {
+        ParameterConverter converter = new EnumConverter();
+        Type type = SomeSteps.methodFor("aMethodWithEnum").getGenericParameterTypes()[0];
+        try {
+            converter.convertValue("FOUR", type);
+            fail("Exception was not thrown");
+        } catch (ParameterConvertionFailed e) {
+            assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+            assertThat(e.getCause().getStackTrace()[0].getClassName(), equalTo(Enum.class.getName()));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void shouldConvertEnumList() throws IntrospectionException {
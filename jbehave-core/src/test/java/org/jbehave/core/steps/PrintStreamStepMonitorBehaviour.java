@@ -26,5 +26,17 @@ public class PrintStreamStepMonitorBehaviour {
         assertThat(out.toString(), containsString("Found parameter 'parameter' for position 0"));
     }
 
-  
+    @Test
+    public void shouldReportConversionsResolvedFromCacheAsConversions() {
+        // Given
+        OutputStream out = new ByteArrayOutputStream();
+        CacheAwareStepMonitor monitor = new PrintStreamStepMonitor(new PrintStream(out));
+
+        // When
+        monitor.convertedValueOfType("1", Integer.class, 1, Object.class, true, 1, 0);
+
+        // Then
+        assertThat(out.toString(), containsString("Converted value '1' of type 'class java.lang.Integer' to '1'"));
+    }
+
 }
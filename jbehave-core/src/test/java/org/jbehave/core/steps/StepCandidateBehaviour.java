@@ -92,6 +92,17 @@ public class StepCandidateBehaviour {
         assertThat(candidate.matches("And windows on the 1st floor", "When windows on the 1st floor"), is(true));
     }
 
+    @Test
+    public void shouldMonitorAndStepNotMatchingTypeOfPreviousStep() throws Exception {
+        Method method = SomeSteps.class.getMethod("aMethod");
+        StepCandidate candidate = candidateWith("windows on the $nth floor", WHEN, method, new SomeSteps());
+        StepMonitor stepMonitor = mock(StepMonitor.class);
+        candidate.useStepMonitor(stepMonitor);
+        assertThat(candidate.matches("And windows on the 1st floor", "Given windows on the 1st floor"), is(false));
+        verify(stepMonitor).stepMatchesType("And windows on the 1st floor", "Given windows on the 1st floor", false,
+                WHEN, method, SomeSteps.class);
+    }
+
     @Test
     public void shouldMatchMultilineStep() throws Exception {
         Method method = SomeSteps.class.getMethod("aMethod");
@@ -9,6 +9,7 @@ import static org.jbehave.core.steps.StepCreator.PARAMETER_VALUE_START;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,6 +28,7 @@ import org.jbehave.core.failures.BeforeOrAfterFailed;
 import org.jbehave.core.failures.UUIDExceptionWrapper;
 import org.jbehave.core.model.Meta;
 import org.jbehave.core.parsers.RegexStepMatcher;
+import org.jbehave.core.parsers.StepMatch;
 import org.jbehave.core.parsers.StepMatcher;
 import org.jbehave.core.reporters.StoryReporter;
 import org.jbehave.core.steps.AbstractStepResult.Failed;
@@ -42,6 +44,7 @@ import org.mockito.Matchers;
 
 import com.thoughtworks.paranamer.BytecodeReadingParanamer;
 import com.thoughtworks.paranamer.CachingParanamer;
+import com.thoughtworks.paranamer.Paranamer;
 
 public class StepCreatorBehaviour {
 
@@ -139,7 +142,7 @@ public class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(new String[] {});
-        stepCreator.matchedParameter("unknown");
+        stepCreator.matchedParameter(StepMatch.NO_MATCH, "unknown");
 
         // Then .. fail as expected
     }
@@ -203,8 +206,7 @@ public class StepCreatorBehaviour {
 
         // When
         when(stepMatcher.parameterNames()).thenReturn(parameters.keySet().toArray(new String[parameters.size()]));
-        when(stepMatcher.parameter(1)).thenReturn(parameters.get(firstParameterValue));
-        when(stepMatcher.parameter(2)).thenReturn(parameters.get(secondParameterValue));
+        when(stepMatcher.find(anyString())).thenReturn(new StepMatch("", parameters.get(firstParameterValue), parameters.get(secondParameterValue)));
         StepResult stepResult = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
                 "When I use parameters <theme> and <variant>", "I use parameters <theme> and <variant>", parameters)
                 .perform(null);
@@ -275,6 +277,29 @@ public class StepCreatorBehaviour {
         assertThat(stepResult.getFailure().getCause(), instanceOf(BeforeOrAfterFailed.class));
     }
 
+    @Test
+    public void shouldLookUpParameterNamesOnceForAllStepsPerformed() throws Exception {
+        // Given
+        SomeSteps stepsInstance = new SomeSteps();
+        StepCreator stepCreator = stepCreatorUsing(stepsInstance, mock(StepMatcher.class), new ParameterControls());
+        Paranamer paranamer = mock(Paranamer.class);
+        Method method = SomeSteps.methodFor("aMethodWithoutNamedAnnotation");
+        when(paranamer.lookupParameterNames(method, false)).thenReturn(new String[] { "theme" });
+        stepCreator.useParanamer(paranamer);
+        Properties properties = new Properties();
+        properties.put("theme", "shopping cart");
+
+        // When
+        Step stepWithMeta = stepCreator.createBeforeOrAfterStep(method, new Meta(properties));
+        stepWithMeta.perform(null);
+        StepResult stepResult = stepWithMeta.perform(null);
+
+        // Then
+        assertThat(stepResult, instanceOf(Skipped.class));
+        assertThat((String) stepsInstance.args, is("shopping cart"));
+        verify(paranamer, times(1)).lookupParameterNames(method, false);
+    }
+
     @Test
     public void shouldInvokeAfterStepUponAnyOutcomeMethodWithExpectedParametersFromMeta() throws Exception {
         // Given
@@ -442,7 +467,7 @@ public class StepCreatorBehaviour {
         StepCreator stepCreator = stepCreatorUsing(stepsInstance, stepMatcher, parameterControls);
         Map<String, String> params = Collections.singletonMap("param", "value");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
-        when(stepMatcher.parameter(1)).thenReturn("<param>");
+        when(stepMatcher.find(anyString())).thenReturn(new StepMatch("", "<param>"));
 
         // When
         Step step = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithoutNamedAnnotation"),
@@ -468,8 +493,7 @@ public class StepCreatorBehaviour {
         params.put("t", "distinct theme");
         params.put("v", "distinct variant");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
-        when(stepMatcher.parameter(1)).thenReturn("<t>");
-        when(stepMatcher.parameter(2)).thenReturn("<v>");
+        when(stepMatcher.find(anyString())).thenReturn(new StepMatch("", "<t>", "<v>"));
 
         // When
         Step step = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
@@ -498,8 +522,7 @@ public class StepCreatorBehaviour {
         params.put("theme", "a theme");
         params.put("variant", "a variant");
         when(stepMatcher.parameterNames()).thenReturn(params.keySet().toArray(new String[params.size()]));
-        when(stepMatcher.parameter(1)).thenReturn("<t>");
-        when(stepMatcher.parameter(2)).thenReturn("<v>");
+        when(stepMatcher.find(anyString())).thenReturn(new StepMatch("", "<t>", "<v>"));
 
         // When
         Step step = stepCreator.createParametrisedStep(SomeSteps.methodFor("aMethodWithANamedParameter"),
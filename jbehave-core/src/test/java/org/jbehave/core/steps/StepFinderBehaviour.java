@@ -3,10 +3,12 @@ package org.jbehave.core.steps;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.jbehave.core.steps.StepType.GIVEN;
 import static org.jbehave.core.steps.StepType.THEN;
 import static org.jbehave.core.steps.StepType.WHEN;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -14,6 +16,8 @@ import org.jbehave.core.annotations.Given;
 import org.jbehave.core.annotations.Then;
 import org.jbehave.core.annotations.When;
 import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.StepFinder.ByLevenshteinDistance;
+import org.jbehave.core.steps.StepFinder.ByPriorityField;
 import org.junit.Test;
 
 public class StepFinderBehaviour {
@@ -31,6 +35,101 @@ public class StepFinderBehaviour {
         assertThatStepdocIs(stepdocs.get(2), "thenFoo", "thenFoo(java.lang.String)", "foo named $name", "Then", THEN, mySteps);        
     }
     
+    @Test
+    public void shouldPruneCandidatesByLiteralPrefixKeepingTheirOrder() throws Exception {
+        List<CandidateSteps> candidateSteps = new InstanceStepsFactory(new MostUsefulConfiguration(),
+                new PrefixedSteps()).createCandidateSteps();
+        List<StepCandidate> candidates = finder.collectCandidates(candidateSteps);
+        assertThat(candidates.size(), equalTo(6));
+
+        assertThatCandidatesAre(candidates, "Given a  user named Bob",
+                "[GIVEN $anything, GIVEN a user named $name, THEN the user (is|is not) logged out]");
+        assertThatCandidatesAre(candidates, "Given a\nuser role",
+                "[GIVEN $anything, GIVEN a user role, THEN the user (is|is not) logged out]");
+        assertThatCandidatesAre(candidates, "And a user named Bob",
+                "[GIVEN $anything, GIVEN a user named $name, THEN the user (is|is not) logged out, WHEN a user named $name logs in]");
+        assertThatCandidatesAre(candidates, "Then the user is logged in",
+                "[THEN the user (is|is not) logged out, THEN the user is logged in]");
+        assertThatCandidatesAre(candidates, "When nothing", "[THEN the user (is|is not) logged out]");
+        assertThat(sorted(finder.findMatching("Given a user named Bob", candidateSteps)),
+                equalTo("[$anything, a user named $name]"));
+    }
+
+    @Test
+    public void shouldPrioritiseCollectedCandidatesOnceIfStepIndependent() throws Exception {
+        final List<List<StepCandidate>> prioritised = new ArrayList<List<StepCandidate>>();
+        StepFinder finder = new StepFinder(new ByPriorityField() {
+            @Override
+            public List<StepCandidate> prioritise(List<StepCandidate> candidates) {
+                prioritised.add(candidates);
+                return super.prioritise(candidates);
+            }
+        });
+        List<StepCandidate> candidates = finder.collectCandidates(new InstanceStepsFactory(
+                new MostUsefulConfiguration(), new PrefixedSteps()).createCandidateSteps());
+
+        List<StepCandidate> ordering = finder.prioritise("Given a user role", candidates);
+        assertThat(finder.prioritise("Given a user named Bob", candidates), sameInstance(ordering));
+        assertThat(finder.prioritiseCandidatesFor("Given a user role", candidates).size(), equalTo(3));
+        assertThat(finder.prioritiseCandidatesFor("Then the user is logged in", candidates).size(), equalTo(2));
+        assertThat(prioritised.size(), equalTo(1));
+        assertThat(prioritised.get(0), sameInstance(candidates));
+    }
+
+    @Test
+    public void shouldPrioritiseByPriorityFieldWithoutModifyingCandidates() throws Exception {
+        List<StepCandidate> candidates = new InstanceStepsFactory(new MostUsefulConfiguration(), new PrioritySteps())
+                .createCandidateSteps().get(0).listCandidates();
+        List<StepCandidate> prioritised = new ByPriorityField().prioritise("Given a step", candidates);
+        assertThat(prioritised.get(0).getPriority(), equalTo(2));
+        assertThat(prioritised.get(1).getPriority(), equalTo(1));
+        assertThat(prioritised.get(2).getPriority(), equalTo(0));
+    }
+
+    @Test
+    public void shouldPrioritiseByLevenshteinDistanceWithoutModifyingCandidates() throws Exception {
+        List<StepCandidate> candidates = new InstanceStepsFactory(new MostUsefulConfiguration(), new PrioritySteps())
+                .createCandidateSteps().get(0).listCandidates();
+        ByLevenshteinDistance strategy = new ByLevenshteinDistance();
+        for (int i = 0; i < 2; i++) {
+            assertThat(prioritiesOf(strategy.prioritise("Given a step", candidates)), equalTo("[1, 2, 0]"));
+            assertThat(prioritiesOf(strategy.prioritise("Given x", candidates)), equalTo("[0, 2, 1]"));
+            assertThat(prioritiesOf(strategy.prioritise("Given a ste", candidates)), equalTo("[1, 2, 0]"));
+        }
+    }
+
+    private String prioritiesOf(List<StepCandidate> candidates) {
+        List<Integer> priorities = new ArrayList<Integer>();
+        for (StepCandidate candidate : candidates) {
+            priorities.add(candidate.getPriority());
+        }
+        return priorities.toString();
+    }
+
+    @Test
+    public void shouldNotPruneCandidatesNotCollected() throws Exception {
+        List<StepCandidate> candidates = new InstanceStepsFactory(new MostUsefulConfiguration(), new PrefixedSteps())
+                .createCandidateSteps().get(0).listCandidates();
+        assertThat(finder.candidatesFor("When nothing", candidates), sameInstance(candidates));
+    }
+
+    private void assertThatCandidatesAre(List<StepCandidate> candidates, String step, String expected) {
+        List<StepCandidate> pruned = finder.candidatesFor(step, candidates);
+        assertThat(sorted(pruned), equalTo(expected));
+        List<StepCandidate> inOrder = new ArrayList<StepCandidate>(candidates);
+        inOrder.retainAll(pruned);
+        assertThat(pruned, equalTo(inOrder));
+    }
+
+    private String sorted(List<?> candidatesOrStepdocs) {
+        List<String> patterns = new ArrayList<String>();
+        for (Object candidate : candidatesOrStepdocs) {
+            patterns.add(candidate instanceof Stepdoc ? ((Stepdoc) candidate).getPattern() : candidate.toString());
+        }
+        Collections.sort(patterns);
+        return patterns.toString();
+    }
+
     private void assertThatStepdocIs(Stepdoc stepdoc, String methodName, String methodSignature, String pattern, String startingWord, StepType stepType, Object stepsInstance) {
         assertThat(stepdoc.getMethod().getName(), equalTo(methodName));
         assertThat(stepdoc.toString(), containsString(methodName));
@@ -45,6 +144,50 @@ public class StepFinderBehaviour {
         assertThat(stepdoc.toString(), containsString(stepsInstance.getClass().getName()));
     }
 
+    static class PrefixedSteps {
+
+        @Given("a user named $name")
+        public void givenUser(String name) {
+        }
+
+        @Given("a user role")
+        public void givenRole() {
+        }
+
+        @When("a user named $name logs in")
+        public void whenLogsIn(String name) {
+        }
+
+        @Given("$anything")
+        public void givenAnything(String anything) {
+        }
+
+        @Then("the user is logged in")
+        public void thenLoggedIn() {
+        }
+
+        @Then("the user (is|is not) logged out")
+        public void thenLoggedOut() {
+        }
+
+    }
+
+    static class PrioritySteps {
+
+        @Given(value = "a step", priority = 1)
+        public void givenOne() {
+        }
+
+        @Given(value = "a $step", priority = 2)
+        public void givenTwo() {
+        }
+
+        @Given("$a $step")
+        public void givenNone() {
+        }
+
+    }
+
     static class MySteps  {
 
         @Given("foo named $name")
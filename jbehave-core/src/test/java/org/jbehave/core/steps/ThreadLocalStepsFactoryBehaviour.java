@@ -0,0 +1,79 @@
+package org.jbehave.core.steps;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jbehave.core.annotations.Given;
+import org.jbehave.core.configuration.MostUsefulConfiguration;
+import org.jbehave.core.steps.AbstractStepsFactory.StepsInstanceNotFound;
+import org.jbehave.core.steps.ThreadLocalStepsFactory.StepsInstanceNotCreated;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ThreadLocalStepsFactoryBehaviour {
+
+    @Test
+    public void shouldCreateCandidateStepsOfTypes() {
+        InjectableStepsFactory factory = new ThreadLocalStepsFactory(new MostUsefulConfiguration(), MySteps.class);
+        List<CandidateSteps> candidateSteps = factory.createCandidateSteps();
+        assertThat(candidateSteps.size(), equalTo(1));
+        assertThat(candidateSteps.get(0), instanceOf(Steps.class));
+    }
+
+    @Test
+    public void shouldCreateInstancesOncePerThread() throws Exception {
+        final InjectableStepsFactory factory = new ThreadLocalStepsFactory(new MostUsefulConfiguration(),
+                MySteps.class);
+        Object instance = factory.createInstanceOfType(MySteps.class);
+        assertThat(instance, instanceOf(MySteps.class));
+        assertThat(factory.createInstanceOfType(MySteps.class), sameInstance(instance));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Object otherInstance = executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    return factory.createInstanceOfType(MySteps.class);
+                }
+            }).get();
+            assertThat(otherInstance, instanceOf(MySteps.class));
+            assertThat(otherInstance, not(sameInstance(instance)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = StepsInstanceNotFound.class)
+    public void shouldNotCreateInstancesOfTypesNotProvided() {
+        new ThreadLocalStepsFactory(new MostUsefulConfiguration(), MySteps.class)
+                .createInstanceOfType(NoDefaultConstructor.class);
+    }
+
+    @Test(expected = StepsInstanceNotCreated.class)
+    public void shouldFailIfInstanceCannotBeCreated() {
+        new ThreadLocalStepsFactory(new MostUsefulConfiguration(), NoDefaultConstructor.class)
+                .createInstanceOfType(NoDefaultConstructor.class);
+    }
+
+    public static class MySteps {
+
+        @Given("a step")
+        public void givenAStep() {
+        }
+
+    }
+
+    public static class NoDefaultConstructor {
+
+        public NoDefaultConstructor(String value) {
+        }
+
+    }
+
+}
@@ -0,0 +1,245 @@
+package org.jbehave.core.parsers.gherkin;
+
+import gherkin.formatter.Formatter;
+import gherkin.formatter.model.Background;
+import gherkin.formatter.model.DocString;
+import gherkin.formatter.model.Examples;
+import gherkin.formatter.model.Feature;
+import gherkin.formatter.model.Row;
+import gherkin.formatter.model.ScenarioOutline;
+import gherkin.formatter.model.Step;
+import gherkin.formatter.model.Tag;
+import gherkin.parser.Parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+
+import org.jbehave.core.i18n.LocalizedKeywords;
+import org.jbehave.core.model.Description;
+import org.jbehave.core.model.ExamplesTable;
+import org.jbehave.core.model.GivenStories;
+import org.jbehave.core.model.Lifecycle;
+import org.jbehave.core.model.Meta;
+import org.jbehave.core.model.Narrative;
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.compile;
+
+/**
+ * Parses Gherkin stories, building the {@link Story} model directly from the
+ * events of the Gherkin parser. Unlike the {@link GherkinStoryParser}, the
+ * story is not transformed to its JBehave textual representation and parsed
+ * again, so each story is parsed in a single pass.
+ */
+public class GherkinModelStoryParser implements StoryParser {
+
+    private final LocalizedKeywords keywords;
+
+    public GherkinModelStoryParser() {
+        this(new LocalizedKeywords());
+    }
+
+    public GherkinModelStoryParser(LocalizedKeywords keywords) {
+        this.keywords = keywords;
+    }
+
+    public Story parseStory(String storyAsText) {
+        return parseStory(storyAsText, null);
+    }
+
+    public Story parseStory(String storyAsText, String storyPath) {
+        StoryBuilder builder = new StoryBuilder(storyPath);
+        new Parser(builder).parse(storyAsText, storyPath != null ? storyPath : "", 0);
+        return builder.story();
+    }
+
+    private class StoryBuilder implements Formatter {
+
+        private final String storyPath;
+        private Description description = Description.EMPTY;
+        private Meta meta = Meta.EMPTY;
+        private Narrative narrative = Narrative.EMPTY;
+        private List<String> beforeSteps;
+        private final List<Scenario> scenarios = new ArrayList<Scenario>();
+        private ScenarioBuilder scenario;
+        private List<String> steps;
+
+        StoryBuilder(String storyPath) {
+            this.storyPath = storyPath;
+        }
+
+        public void uri(String uri) {
+        }
+
+        public void feature(Feature feature) {
+            String description = feature.getDescription().trim();
+            narrative = narrative(description);
+            if (narrative.isEmpty() && description.length() > 0) {
+                this.description = new Description(feature.getName() + "\n\n" + description);
+            } else {
+                this.description = new Description(feature.getName());
+            }
+            meta = meta(feature.getTags());
+        }
+
+        public void background(Background background) {
+            beforeSteps = new ArrayList<String>();
+            steps = beforeSteps;
+        }
+
+        public void scenario(gherkin.formatter.model.Scenario scenario) {
+            startScenario(new ScenarioBuilder(scenario.getName(), meta(scenario.getTags())));
+        }
+
+        public void scenarioOutline(ScenarioOutline scenarioOutline) {
+            startScenario(new ScenarioBuilder(scenarioOutline.getName(), meta(scenarioOutline.getTags())));
+        }
+
+        public void examples(Examples examples) {
+            if (scenario != null) {
+                scenario.addExamples(examples.getRows());
+            }
+        }
+
+        public void step(Step step) {
+            if (steps == null) {
+                return;
+            }
+            StringBuilder text = new StringBuilder(step.getKeyword()).append(step.getName());
+            List<? extends Row> rows = step.getRows();
+            if (rows != null) {
+                for (Row row : rows) {
+                    text.append("\n");
+                    appendCells(text, row.getCells());
+                }
+            }
+            DocString docString = step.getDocString();
+            if (docString != null) {
+                text.append("\n").append(docString.getValue());
+            }
+            steps.add(text.toString());
+        }
+
+        public void eof() {
+            endScenario();
+        }
+
+        public void syntaxError(String state, String event, List<String> legalEvents, String uri, Integer line) {
+        }
+
+        public void done() {
+        }
+
+        public void close() {
+        }
+
+        Story story() {
+            endScenario();
+            Lifecycle lifecycle = beforeSteps != null ? new Lifecycle(beforeSteps, new ArrayList<String>())
+                    : Lifecycle.EMPTY;
+            return new Story(storyPath, description, meta, narrative, GivenStories.EMPTY, lifecycle, scenarios);
+        }
+
+        private void startScenario(ScenarioBuilder scenario) {
+            endScenario();
+            this.scenario = scenario;
+            this.steps = scenario.steps;
+        }
+
+        private void endScenario() {
+            if (scenario != null) {
+                scenarios.add(scenario.build());
+                scenario = null;
+                steps = null;
+            }
+        }
+
+        private Meta meta(List<Tag> tags) {
+            if (tags.isEmpty()) {
+                return Meta.EMPTY;
+            }
+            List<String> properties = new ArrayList<String>();
+            for (Tag tag : tags) {
+                String name = tag.getName();
+                if (name.startsWith(keywords.metaProperty())) {
+                    name = name.substring(keywords.metaProperty().length());
+                }
+                properties.add(name);
+            }
+            return new Meta(properties);
+        }
+
+        private Narrative narrative(String description) {
+            Matcher findingNarrative = compile(".*" + keywords.narrative() + "(.*?)", DOTALL).matcher(description);
+            if (!findingNarrative.matches()) {
+                return Narrative.EMPTY;
+            }
+            String narrative = findingNarrative.group(1).trim();
+            Matcher findingElements = compile(".*" + keywords.inOrderTo() + "(.*)\\s*" + keywords.asA() + "(.*)\\s*"
+                    + keywords.iWantTo() + "(.*)", DOTALL).matcher(narrative);
+            if (findingElements.matches()) {
+                return new Narrative(findingElements.group(1).trim(), findingElements.group(2).trim(),
+                        findingElements.group(3).trim());
+            }
+            Matcher findingAlternativeElements = compile(".*" + keywords.asA() + "(.*)\\s*" + keywords.iWantTo()
+                    + "(.*)\\s*" + keywords.soThat() + "(.*)", DOTALL).matcher(narrative);
+            if (findingAlternativeElements.matches()) {
+                return new Narrative("", findingAlternativeElements.group(1).trim(),
+                        findingAlternativeElements.group(2).trim(), findingAlternativeElements.group(3).trim());
+            }
+            return Narrative.EMPTY;
+        }
+
+        private void appendCells(StringBuilder text, List<String> cells) {
+            text.append("|");
+            for (String cell : cells) {
+                text.append(cell).append("|");
+            }
+        }
+
+    }
+
+    private static class ScenarioBuilder {
+
+        private final String title;
+        private final Meta meta;
+        private final List<String> steps = new ArrayList<String>();
+        private final List<Map<String, String>> rows = new ArrayList<Map<String, String>>();
+
+        ScenarioBuilder(String title, Meta meta) {
+            this.title = title;
+            this.meta = meta;
+        }
+
+        void addExamples(List<? extends Row> examplesRows) {
+            if (examplesRows == null || examplesRows.isEmpty()) {
+                return;
+            }
+            // rows of further examples are appended to the same table
+            List<String> headers = examplesRows.get(0).getCells();
+            for (Row row : examplesRows.subList(1, examplesRows.size())) {
+                Map<String, String> values = new LinkedHashMap<String, String>();
+                List<String> cells = row.getCells();
+                for (int column = 0; column < headers.size(); column++) {
+                    values.put(headers.get(column), column < cells.size() ? cells.get(column) : "");
+                }
+                rows.add(values);
+            }
+        }
+
+        Scenario build() {
+            ExamplesTable examplesTable = ExamplesTable.EMPTY;
+            if (!rows.isEmpty()) {
+                examplesTable = new ExamplesTable("").withRows(rows);
+            }
+            return new Scenario(title, meta, GivenStories.EMPTY, examplesTable, steps);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.jbehave.core.parsers.gherkin;
+
+import java.util.List;
+
+import org.jbehave.core.model.Scenario;
+import org.jbehave.core.model.Story;
+import org.jbehave.core.parsers.StoryParser;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import static org.junit.Assert.assertThat;
+
+public class GherkinModelStoryParserBehaviour extends GherkinStoryParserBehaviour {
+
+    @Override
+    protected StoryParser storyParser() {
+        return new GherkinModelStoryParser();
+    }
+
+    @Test
+    public void shouldParseStoryWithPathAndScenariosWithAllExamples() {
+        String storyAsText = "Feature: Hello Car\n"
+                    + "Scenario: Car has wheels\n"
+                    + "Given I have a car with 4 wheels\n\n"
+                    + "Scenario Outline: Car can drive\n"
+                    + "Given I have a car\n"
+                    + "When I add <wheels>\n"
+                    + "Then It <can_drive>\n\n"
+                    + "Examples:\n"
+                    + "| wheels | can_drive |\n"
+                    + "| 1 | false |\n\n"
+                    + "Examples:\n"
+                    + "| wheels | can_drive |\n"
+                    + "| 4 | true |";
+        Story story = storyParser().parseStory(storyAsText, "path/to/car.feature");
+        assertThat(story.getPath(), equalTo("path/to/car.feature"));
+        List<Scenario> scenarios = story.getScenarios();
+        assertThat(scenarios.size(), equalTo(2));
+        assertThat(scenarios.get(0).getSteps().size(), equalTo(1));
+        assertThat(scenarios.get(0).getExamplesTable().getRowCount(), equalTo(0));
+        assertThat(scenarios.get(1).getSteps().size(), equalTo(3));
+        assertThat(scenarios.get(1).getExamplesTable().asString(), equalTo(
+                  "|wheels|can_drive|\n"
+                + "|1|false|\n"
+                + "|4|true|\n"));
+    }
+
+}
@@ -18,7 +18,11 @@ import static org.junit.Assert.assertThat;
 
 public class GherkinStoryParserBehaviour {
 
-	private StoryParser storyParser = new GherkinStoryParser();
+	private StoryParser storyParser = storyParser();
+
+	protected StoryParser storyParser() {
+		return new GherkinStoryParser();
+	}
 	
 	@Test
 	public void shouldParseStoryWithTabularParameter() throws IOException{